@@ -0,0 +1,74 @@
+package com.educacao.esportiva.benchmark;
+
+import com.educacao.esportiva.AgendaProfessor;
+import com.educacao.esportiva.Aula;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Monolito: índice de intervalos da agenda de um professor, com aulas de 50 minutos
+ * a cada hora, das 07:00 às 17:00. O custo acompanha log n (e a localidade de cache da
+ * árvore), não o número de aulas, como faria uma varredura.
+ *
+ * Com aulaLonga=true a agenda recebe também uma aula anterior a todas as outras e tão
+ * longa quanto o período inteiro, sem sobrepor nenhuma: a duração das aulas não deve
+ * alargar a faixa percorrida em cada consulta.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AgendaProfessorBenchmark {
+
+    private static final int AULAS_POR_DIA = 10;
+    private static final LocalDate INICIO = LocalDate.of(2025, 1, 1);
+
+    @Param({"1000", "100000"})
+    private int aulas;
+
+    @Param({"false", "true"})
+    private boolean aulaLonga;
+
+    private AgendaProfessor agenda;
+    private int dias;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        agenda = new AgendaProfessor();
+        dias = aulas / AULAS_POR_DIA;
+        for (int i = 0; i < aulas; i++) {
+            agenda.registrar(aula(INICIO.plusDays(i / AULAS_POR_DIA), LocalTime.of(7 + i % AULAS_POR_DIA, 0), 50));
+        }
+        if (aulaLonga) {
+            agenda.registrar(aula(INICIO.minusDays(dias + 1L), LocalTime.MIDNIGHT, dias * 24 * 60));
+        }
+    }
+
+    /**
+     * Aula que se sobrepõe a uma existente: a reserva é recusada e a agenda não muda
+     */
+    @Benchmark
+    public Aula verificarConflito() {
+        LocalDate data = INICIO.plusDays(ThreadLocalRandom.current().nextInt(dias));
+        return agenda.reservar(aula(data, LocalTime.of(9, 30), 60));
+    }
+
+    @Benchmark
+    public List<Aula> consultarSemana() {
+        long inicio = AgendaProfessor.inicioDoDia(INICIO.plusDays(ThreadLocalRandom.current().nextInt(dias)));
+        return agenda.entre(inicio, inicio + 7 * 24 * 60);
+    }
+
+    private static Aula aula(LocalDate data, LocalTime horario, int duracao) {
+        Aula aula = new Aula(null, data, duracao, new long[] {1L}, 1L);
+        aula.setHorario(horario);
+        return aula;
+    }
+}
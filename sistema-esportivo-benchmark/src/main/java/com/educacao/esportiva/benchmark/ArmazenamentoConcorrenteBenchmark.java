@@ -0,0 +1,66 @@
+package com.educacao.esportiva.benchmark;
+
+import com.educacao.esportiva.ArmazenamentoConcorrente;
+import com.educacao.esportiva.Esporte;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Monolito: contenção no ArmazenamentoConcorrente.
+ * Execute com números crescentes de threads (ex.: -t 1, -t 2, -t 4, -t 8) para
+ * observar a escala das leituras; o grupo "misto" acrescenta escritas concorrentes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArmazenamentoConcorrenteBenchmark {
+
+    @Param({"100000"})
+    private int registros;
+
+    private ArmazenamentoConcorrente<Esporte> armazenamento;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        armazenamento = new ArmazenamentoConcorrente<>(registros);
+        for (int i = 0; i < registros; i++) {
+            Long id = armazenamento.reservarId();
+            armazenamento.salvar(id, new Esporte(id, DadosMonolito.nomeEsporte(i), DadosMonolito.categoria(i)));
+        }
+    }
+
+    @Benchmark
+    public Esporte leitura() {
+        return armazenamento.buscar(idAleatorio());
+    }
+
+    @Benchmark
+    @Group("misto")
+    @GroupThreads(3)
+    public Esporte mistoLeitura() {
+        return armazenamento.buscar(idAleatorio());
+    }
+
+    @Benchmark
+    @Group("misto")
+    @GroupThreads(1)
+    public void mistoEscrita() {
+        Long id = idAleatorio();
+        armazenamento.salvar(id, new Esporte(id, "Atualizado", "Coletivo"));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Long reservaDeIds() {
+        return armazenamento.reservarId();
+    }
+
+    private long idAleatorio() {
+        return ThreadLocalRandom.current().nextLong(1, registros + 1);
+    }
+}
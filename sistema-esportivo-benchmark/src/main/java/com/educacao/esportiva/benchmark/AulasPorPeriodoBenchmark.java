@@ -0,0 +1,49 @@
+package com.educacao.esportiva.benchmark;
+
+import com.educacao.esportiva.SistemaEsportivoController;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Monolito: GET /api/aulas?de=...&ate=... (um mês, 10 aulas por dia), com e sem categoria.
+ * O custo depende das aulas do período, não do total de aulas.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AulasPorPeriodoBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int aulas;
+
+    private SistemaEsportivoController controller;
+    private LocalDate de;
+    private LocalDate ate;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        controller = new SistemaEsportivoController();
+        List<Long> esportes = DadosMonolito.criarEsportes(controller);
+        List<Long> conteudos = DadosMonolito.criarConteudos(controller, esportes, 1000);
+        Long professor = DadosMonolito.criarProfessor(controller);
+        DadosMonolito.criarAulas(controller, conteudos, professor, aulas);
+        de = DadosMonolito.INICIO_AULAS.plusDays(aulas / DadosMonolito.AULAS_POR_DIA / 2);
+        ate = de.plusDays(29);
+    }
+
+    @Benchmark
+    public Object listarUmMes() {
+        return controller.listarAulasPorPeriodo(de, ate, null);
+    }
+
+    @Benchmark
+    public Object listarUmMesPorCategoria() {
+        return controller.listarAulasPorPeriodo(de, ate, DadosMonolito.categoria(3));
+    }
+}
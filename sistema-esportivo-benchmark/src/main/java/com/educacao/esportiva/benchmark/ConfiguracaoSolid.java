@@ -0,0 +1,40 @@
+package com.educacao.esportiva.benchmark;
+
+import com.educacao.esportiva.application.service.DicionarioCategorias;
+import com.educacao.esportiva.application.service.EsporteService;
+import com.educacao.esportiva.application.service.IndiceNomeEsporte;
+import com.educacao.esportiva.domain.Esporte;
+import com.educacao.esportiva.infrastructure.cache.EsporteRepositoryComCache;
+import com.educacao.esportiva.infrastructure.repository.JpaEsporteRepository;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * Contexto Spring mínimo da versão SOLID para os benchmarks: registra apenas as
+ * camadas de serviço e persistência (sem web e sem o DataInitializer), evitando
+ * o component scan do pacote raiz, compartilhado com a versão monolítica.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+@EntityScan(basePackageClasses = Esporte.class)
+@EnableJpaRepositories(basePackageClasses = JpaEsporteRepository.class)
+@Import({EsporteService.class, IndiceNomeEsporte.class, DicionarioCategorias.class, EsporteRepositoryComCache.class})
+public class ConfiguracaoSolid {
+
+    /**
+     * @param propriedades Propriedades adicionais no formato "chave=valor"
+     */
+    static ConfigurableApplicationContext iniciar(String... propriedades) {
+        return new SpringApplicationBuilder(ConfiguracaoSolid.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.config.name=benchmark")
+                .properties(propriedades)
+                .run();
+    }
+}
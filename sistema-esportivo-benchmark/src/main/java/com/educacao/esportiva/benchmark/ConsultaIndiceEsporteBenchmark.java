@@ -0,0 +1,83 @@
+package com.educacao.esportiva.benchmark;
+
+import com.educacao.esportiva.application.service.DicionarioCategorias;
+import com.educacao.esportiva.application.service.EsporteService;
+import com.educacao.esportiva.infrastructure.repository.JpaEsporteRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SOLID: latência de findByNome/findByCategoriaId direto no JpaEsporteRepository
+ * (sem cache), com e sem os índices criados pelas migrações.
+ * Sem índices, a chave estrangeira de categoria_id também é removida: é ela que mantém
+ * o índice da coluna, e o plano de cada consulta é conferido (EXPLAIN) antes da medição.
+ * Para o cenário de 1M de linhas: -p esportes=1000000
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConsultaIndiceEsporteBenchmark {
+
+    @Param({"100000"})
+    private int esportes;
+
+    @Param({"true", "false"})
+    private boolean indices;
+
+    private ConfigurableApplicationContext contexto;
+    private JpaEsporteRepository repositorio;
+    private Integer[] codigosCategorias;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        contexto = ConfiguracaoSolid.iniciar("esportes.cache.habilitado=false");
+        EsporteServiceBenchmark.popular(contexto.getBean(EsporteService.class), esportes);
+        if (!indices) {
+            JdbcTemplate jdbc = contexto.getBean(JdbcTemplate.class);
+            jdbc.execute("DROP INDEX idx_esportes_nome");
+            jdbc.execute("ALTER TABLE esportes DROP CONSTRAINT fk_esportes_categoria");
+            jdbc.execute("DROP INDEX idx_esportes_categoria_id");
+            exigirVarreduraCompleta(jdbc, "SELECT * FROM esportes WHERE nome = 'Esporte 1'");
+            exigirVarreduraCompleta(jdbc, "SELECT * FROM esportes WHERE categoria_id = 1");
+        }
+        repositorio = contexto.getBean(JpaEsporteRepository.class);
+        
+        DicionarioCategorias dicionario = contexto.getBean(DicionarioCategorias.class);
+        codigosCategorias = new Integer[EsporteServiceBenchmark.CATEGORIAS];
+        for (int i = 0; i < codigosCategorias.length; i++) {
+            codigosCategorias[i] = dicionario.codificar("Categoria " + i).getId();
+        }
+    }
+
+    /**
+     * Falha o cenário se o H2 ainda resolver a consulta por algum índice
+     */
+    private static void exigirVarreduraCompleta(JdbcTemplate jdbc, String consulta) {
+        String plano = jdbc.queryForObject("EXPLAIN " + consulta, String.class);
+        if (plano == null || !plano.contains("tableScan")) {
+            throw new IllegalStateException("Consulta ainda usa índice: " + plano);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public Object findByNome() {
+        return repositorio.findByNome("Esporte " + ThreadLocalRandom.current().nextInt(esportes));
+    }
+
+    @Benchmark
+    public Object findByCategoriaId() {
+        return repositorio.findByCategoriaId(codigosCategorias[ThreadLocalRandom.current().nextInt(codigosCategorias.length)]);
+    }
+}
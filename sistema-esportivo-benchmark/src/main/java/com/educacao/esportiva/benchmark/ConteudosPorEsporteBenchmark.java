@@ -0,0 +1,43 @@
+package com.educacao.esportiva.benchmark;
+
+import com.educacao.esportiva.SistemaEsportivoController;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Monolito: GET /api/conteudos/esporte/{esporteId}, com e sem paginação.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConteudosPorEsporteBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int conteudos;
+
+    private SistemaEsportivoController controller;
+    private Long esporteId;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        controller = new SistemaEsportivoController();
+        List<Long> esportes = DadosMonolito.criarEsportes(controller);
+        DadosMonolito.criarConteudos(controller, esportes, conteudos);
+        esporteId = esportes.get(0);
+    }
+
+    @Benchmark
+    public Object listarTodos() {
+        return controller.listarConteudosPorEsporte(esporteId, null, null);
+    }
+
+    @Benchmark
+    public Object listarPrimeiraPagina() {
+        return controller.listarConteudosPorEsporte(esporteId, 0, 20);
+    }
+}
@@ -0,0 +1,40 @@
+package com.educacao.esportiva.benchmark;
+
+import com.educacao.esportiva.Esporte;
+import com.educacao.esportiva.SistemaEsportivoController;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Monolito: verificação de nome duplicado em POST /api/esportes.
+ * Mede o caminho de rejeição, que exercita apenas a verificação sem crescer o estado.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CriacaoEsporteBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int esportes;
+
+    private SistemaEsportivoController controller;
+    private String nomeExistente;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        controller = new SistemaEsportivoController();
+        for (int i = 0; i < esportes; i++) {
+            controller.criarEsporte(new Esporte(null, DadosMonolito.nomeEsporte(i), DadosMonolito.categoria(i)));
+        }
+        nomeExistente = DadosMonolito.nomeEsporte(esportes - 1).toUpperCase();
+    }
+
+    @Benchmark
+    public Object criarEsporteDuplicado() {
+        return controller.criarEsporte(new Esporte(null, nomeExistente, "Coletivo"));
+    }
+}
@@ -0,0 +1,75 @@
+package com.educacao.esportiva.benchmark;
+
+import com.educacao.esportiva.Aula;
+import com.educacao.esportiva.Conteudo;
+import com.educacao.esportiva.Esporte;
+import com.educacao.esportiva.Professor;
+import com.educacao.esportiva.SistemaEsportivoController;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Popula um SistemaEsportivoController com um volume sintético de dados,
+ * usando os próprios endpoints (e, portanto, mantendo os índices internos).
+ */
+final class DadosMonolito {
+
+    static final int ESPORTES = 100;
+    static final int CATEGORIAS = 10;
+    static final int CONTEUDOS_POR_AULA = 3;
+    static final int AULAS_POR_DIA = 10;
+    static final LocalDate INICIO_AULAS = LocalDate.of(2025, 1, 1);
+
+    private DadosMonolito() {}
+
+    static String categoria(int indice) {
+        return "Categoria " + (indice % CATEGORIAS);
+    }
+
+    static String nomeEsporte(int indice) {
+        return "Esporte " + indice;
+    }
+
+    static List<Long> criarEsportes(SistemaEsportivoController controller) {
+        List<Long> ids = new ArrayList<>(ESPORTES);
+        for (int i = 0; i < ESPORTES; i++) {
+            Esporte esporte = (Esporte) controller.criarEsporte(new Esporte(null, nomeEsporte(i), categoria(i))).getBody();
+            ids.add(esporte.getId());
+        }
+        return ids;
+    }
+
+    static List<Long> criarConteudos(SistemaEsportivoController controller, List<Long> esportes, int quantidade) {
+        List<Long> ids = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            Conteudo conteudo = new Conteudo(null, "Conteúdo " + i, "https://example.com/" + i,
+                i % 2 == 0 ? "Fundamental II" : "Médio", esportes.get(i % esportes.size()));
+            ids.add(((Conteudo) controller.criarConteudo(conteudo).getBody()).getId());
+        }
+        return ids;
+    }
+
+    static Long criarProfessor(SistemaEsportivoController controller) {
+        Professor professor = (Professor) controller.criarProfessor(new Professor(null, "Professor", "Geral")).getBody();
+        return professor.getId();
+    }
+
+    /**
+     * Aulas de 50 minutos a cada hora, das 07:00 às 17:00, em dias consecutivos a partir
+     * de INICIO_AULAS (o professor não pode ter duas aulas no mesmo horário)
+     */
+    static void criarAulas(SistemaEsportivoController controller, List<Long> conteudos, Long professorId, int quantidade) {
+        for (int i = 0; i < quantidade; i++) {
+            long[] conteudosDaAula = new long[CONTEUDOS_POR_AULA];
+            for (int c = 0; c < CONTEUDOS_POR_AULA; c++) {
+                conteudosDaAula[c] = conteudos.get((i * CONTEUDOS_POR_AULA + c) % conteudos.size());
+            }
+            Aula aula = new Aula(null, INICIO_AULAS.plusDays(i / AULAS_POR_DIA), 50, conteudosDaAula, professorId);
+            aula.setHorario(LocalTime.of(7 + i % AULAS_POR_DIA, 0));
+            controller.criarAula(aula);
+        }
+    }
+}
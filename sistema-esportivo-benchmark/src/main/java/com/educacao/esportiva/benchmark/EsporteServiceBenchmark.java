@@ -0,0 +1,103 @@
+package com.educacao.esportiva.benchmark;
+
+import com.educacao.esportiva.application.dto.CriarEsporteDTO;
+import com.educacao.esportiva.application.service.EsporteService;
+import com.educacao.esportiva.domain.Esporte;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SOLID: operações CRUD do EsporteService contra H2 em memória.
+ * O parâmetro "cache" liga/desliga o EsporteRepositoryComCache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EsporteServiceBenchmark {
+
+    static final int CATEGORIAS = 100;
+    static final int TAMANHO_LOTE = 1000;
+
+    @Param({"1000", "10000", "100000"})
+    private int esportes;
+
+    @Param({"true", "false"})
+    private boolean cache;
+
+    private ConfigurableApplicationContext contexto;
+    private EsporteService esporteService;
+    private final AtomicLong sequencia = new AtomicLong();
+    // Versão atual de cada esporte, para o If-Match de atualizarCondicional (execução com 1 thread)
+    private long[] versoes;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        contexto = ConfiguracaoSolid.iniciar("esportes.cache.habilitado=" + cache);
+        esporteService = contexto.getBean(EsporteService.class);
+        popular(esporteService, esportes);
+        versoes = new long[esportes + 1];
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    static void popular(EsporteService esporteService, int quantidade) {
+        for (int inicio = 0; inicio < quantidade; inicio += TAMANHO_LOTE) {
+            List<CriarEsporteDTO> lote = new ArrayList<>(TAMANHO_LOTE);
+            for (int i = inicio; i < Math.min(quantidade, inicio + TAMANHO_LOTE); i++) {
+                lote.add(new CriarEsporteDTO("Esporte " + i, "Categoria " + (i % CATEGORIAS)));
+            }
+            esporteService.criarEsportesEmLote(lote);
+        }
+    }
+
+    @Benchmark
+    public Object buscarPorId() {
+        return esporteService.buscarPorId(ThreadLocalRandom.current().nextLong(1, esportes + 1));
+    }
+
+    @Benchmark
+    public Object buscarPorNome() {
+        return esporteService.buscarPorNome("Esporte " + ThreadLocalRandom.current().nextInt(esportes));
+    }
+
+    @Benchmark
+    public Object buscarPorCategoria() {
+        return esporteService.buscarPorCategoria("Categoria " + ThreadLocalRandom.current().nextInt(CATEGORIAS));
+    }
+
+    @Benchmark
+    public Object atualizar() {
+        long id = ThreadLocalRandom.current().nextLong(1, esportes + 1);
+        return esporteService.atualizarEsporte(id, "Esporte " + (id - 1), "Categoria " + (id % CATEGORIAS));
+    }
+
+    /**
+     * Mesmo efeito de atualizar(), com o UPDATE condicional à versão: uma instrução, sem findById
+     */
+    @Benchmark
+    public Object atualizarCondicional() {
+        int id = ThreadLocalRandom.current().nextInt(1, esportes + 1);
+        Esporte esporte = esporteService.atualizarEsporteSeVersao((long) id, "Esporte " + (id - 1),
+                "Categoria " + (id % CATEGORIAS), versoes[id]);
+        versoes[id] = esporte.getVersao();
+        return esporte;
+    }
+
+    @Benchmark
+    public void criarEExcluir() {
+        Esporte esporte = esporteService.criarEsporte("Novo " + sequencia.incrementAndGet(), "Categoria 0");
+        esporteService.excluirEsporte(esporte.getId());
+    }
+}
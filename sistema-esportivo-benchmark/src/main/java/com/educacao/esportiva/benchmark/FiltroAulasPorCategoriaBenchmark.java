@@ -0,0 +1,43 @@
+package com.educacao.esportiva.benchmark;
+
+import com.educacao.esportiva.SistemaEsportivoController;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Monolito: GET /api/aulas/filtrar?categoria=...
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FiltroAulasPorCategoriaBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int aulas;
+
+    private SistemaEsportivoController controller;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        controller = new SistemaEsportivoController();
+        List<Long> esportes = DadosMonolito.criarEsportes(controller);
+        List<Long> conteudos = DadosMonolito.criarConteudos(controller, esportes, 1000);
+        Long professor = DadosMonolito.criarProfessor(controller);
+        DadosMonolito.criarAulas(controller, conteudos, professor, aulas);
+    }
+
+    @Benchmark
+    public Object filtrarCategoriaExistente() {
+        return controller.filtrarAulasPorCategoria(DadosMonolito.categoria(3));
+    }
+
+    @Benchmark
+    public Object filtrarCategoriaInexistente() {
+        return controller.filtrarAulasPorCategoria("Inexistente");
+    }
+}
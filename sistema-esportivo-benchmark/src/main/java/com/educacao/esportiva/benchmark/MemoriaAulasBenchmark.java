@@ -0,0 +1,117 @@
+package com.educacao.esportiva.benchmark;
+
+import com.educacao.esportiva.Aula;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jol.info.GraphLayout;
+import org.openjdk.jol.vm.VM;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Monolito: heap retido pelas aulas e suas listas de conteúdos.
+ *
+ * Cada execução cria o volume de aulas inteiro e mede com o JOL o tamanho do grafo
+ * alcançável a partir do array (cada objeto contado uma vez; LocalDate e Long
+ * compartilhados entre as aulas entram uma única vez). O resultado a comparar é o
+ * contador bytesPorAula; o tempo da operação inclui a travessia do JOL e não é a medida.
+ * O tamanho não depende do aquecimento, e o JMH soma contadores EVENTS entre iterações,
+ * por isso há uma única iteração:
+ *
+ *   -Djmh.args="MemoriaAulasBenchmark"
+ *
+ * - conteudosPrimitivos: Aula atual, com long[] ordenado
+ * - conteudosEmObjetos: AulaAnterior, cópia da classe antes do long[] (List de Long),
+ *   com a lista montada como o Jackson a desserializava: ArrayList sem capacidade
+ *   inicial e um objeto Long por ID
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Djdk.attach.allowAttachSelf=true"})
+public class MemoriaAulasBenchmark {
+
+    private static final int CONTEUDOS_POR_AULA = 5;
+    private static final long PRIMEIRO_CONTEUDO = 1_000;
+    private static final int TOTAL_CONTEUDOS = 100_000;
+
+    @Param({"1000000"})
+    private int aulas;
+
+    private final LocalDate data = LocalDate.of(2025, 1, 1);
+
+    /**
+     * Heap retido por aula, em bytes
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapRetido {
+        public long bytesPorAula;
+    }
+
+    @Benchmark
+    public Object conteudosPrimitivos(HeapRetido heap) {
+        Aula[] criadas = new Aula[aulas];
+        for (int i = 0; i < aulas; i++) {
+            long[] conteudos = new long[CONTEUDOS_POR_AULA];
+            for (int c = 0; c < CONTEUDOS_POR_AULA; c++) {
+                conteudos[c] = conteudoId(i, c);
+            }
+            criadas[i] = new Aula((long) i, data, 50, conteudos, 1L);
+        }
+        heap.bytesPorAula = bytesPorAula(criadas);
+        return criadas;
+    }
+
+    @Benchmark
+    public Object conteudosEmObjetos(HeapRetido heap) {
+        AulaAnterior[] criadas = new AulaAnterior[aulas];
+        for (int i = 0; i < aulas; i++) {
+            List<Long> conteudos = new ArrayList<>();
+            for (int c = 0; c < CONTEUDOS_POR_AULA; c++) {
+                conteudos.add(Long.valueOf(conteudoId(i, c)));
+            }
+            criadas[i] = new AulaAnterior((long) i, data, 50, conteudos, 1L);
+        }
+        heap.bytesPorAula = bytesPorAula(criadas);
+        return criadas;
+    }
+
+    /**
+     * Tamanho do grafo alcançável a partir das aulas, sem o array que as referencia
+     */
+    private long bytesPorAula(Object[] criadas) {
+        long total = GraphLayout.parseInstance((Object) criadas).totalSize();
+        return (total - VM.current().sizeOf(criadas)) / aulas;
+    }
+
+    /**
+     * IDs crescentes dentro da aula, fora do cache de Long.valueOf (-128..127)
+     */
+    private static long conteudoId(int aula, int posicao) {
+        return PRIMEIRO_CONTEUDO + ((long) aula * CONTEUDOS_POR_AULA + posicao) % (TOTAL_CONTEUDOS - CONTEUDOS_POR_AULA);
+    }
+
+    /**
+     * Campos da Aula antes da troca de List<Long> por long[] (sem o horário, adicionado depois)
+     */
+    static class AulaAnterior {
+        private final Long id;
+        private final LocalDate data;
+        private final Integer duracao;
+        private final List<Long> conteudos;
+        private final Long professorId;
+
+        AulaAnterior(Long id, LocalDate data, Integer duracao, List<Long> conteudos, Long professorId) {
+            this.id = id;
+            this.data = data;
+            this.duracao = duracao;
+            this.conteudos = conteudos;
+            this.professorId = professorId;
+        }
+    }
+}
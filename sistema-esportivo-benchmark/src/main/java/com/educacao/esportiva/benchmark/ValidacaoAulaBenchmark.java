@@ -0,0 +1,56 @@
+package com.educacao.esportiva.benchmark;
+
+import com.educacao.esportiva.ArmazenamentoConcorrente;
+import com.educacao.esportiva.Conteudo;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Monolito: validação dos conteúdos de uma aula, consulta por ID x verificação em lote
+ * (idsAusentes), para aulas de 1 a 500 conteúdos que existem no armazenamento.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidacaoAulaBenchmark {
+
+    private static final int CONTEUDOS = 10000;
+
+    @Param({"1", "10", "100", "500"})
+    private int conteudosPorAula;
+
+    private ArmazenamentoConcorrente<Conteudo> conteudos;
+    private long[] idsDaAula;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        conteudos = new ArmazenamentoConcorrente<>(CONTEUDOS);
+        for (int i = 0; i < CONTEUDOS; i++) {
+            Long id = conteudos.reservarId();
+            conteudos.salvar(id, new Conteudo(id, "Conteúdo " + i, "https://example.com/" + i, "Médio", 1L));
+        }
+        idsDaAula = new long[conteudosPorAula];
+        for (int i = 0; i < conteudosPorAula; i++) {
+            idsDaAula[i] = 1 + (long) i * (CONTEUDOS / conteudosPorAula);
+        }
+    }
+
+    @Benchmark
+    public boolean validarPorId() {
+        for (long id : idsDaAula) {
+            if (!conteudos.contem(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Benchmark
+    public long[] validarEmLote() {
+        return conteudos.idsAusentes(idsDaAula);
+    }
+}
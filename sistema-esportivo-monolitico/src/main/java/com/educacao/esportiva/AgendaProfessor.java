@@ -0,0 +1,167 @@
+package com.educacao.esportiva;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * AGENDA DE UM PROFESSOR (ÍNDICE DE INTERVALOS)
+ *
+ * Aulas de um professor ordenadas pelo instante de início, em minutos desde a época:
+ * data + horário. A aula ocupa o intervalo [início, início + duração).
+ *
+ * Aulas sem horário não têm intervalo definido: ficam à parte, agrupadas por dia,
+ * não entram na verificação de conflitos (nem entre si, nem com as demais) e são
+ * devolvidas pela consulta por período em qualquer período que inclua algum minuto
+ * do seu dia, antes das aulas com horário que começam às 00:00.
+ *
+ * Como aulas em conflito são recusadas, os intervalos de uma agenda não se sobrepõem:
+ * das aulas que começam até a, só a última (floorEntry) pode terminar depois de a.
+ * As que podem se sobrepor a [a, b) são essa e as que começam em (a, b), então a
+ * verificação de conflito e a consulta por período custam O(log n + k), com k igual
+ * ao número de aulas encontradas, independentemente da duração das aulas.
+ *
+ * Dados recuperados com registrar() (gravados antes da verificação de conflitos)
+ * podem se sobrepor; neles, uma aula longa coberta por outra que começa depois dela
+ * não é considerada.
+ *
+ * Cada agenda tem seu próprio monitor, então a verificação e a reserva de horário são
+ * atômicas por professor sem bloquear as agendas dos demais.
+ */
+public class AgendaProfessor {
+
+    static final long MINUTOS_POR_DIA = 24 * 60;
+
+    // Início -> aulas; a lista só tem mais de um item em dados anteriores à verificação de conflitos
+    private final NavigableMap<Long, List<Aula>> aulasPorInicio = new TreeMap<>();
+
+    // Dia (desde a época) -> aulas sem horário, na ordem de inclusão
+    private final NavigableMap<Long, List<Aula>> semHorarioPorDia = new TreeMap<>();
+
+    /**
+     * @return Início da aula em minutos desde 1970-01-01 00:00
+     */
+    public static long inicio(Aula aula) {
+        long minutoDoDia = aula.getHorario() != null ? aula.getHorario().toSecondOfDay() / 60 : 0;
+        return aula.getData().toEpochDay() * MINUTOS_POR_DIA + minutoDoDia;
+    }
+
+    /**
+     * @return Início do dia em minutos desde 1970-01-01 00:00
+     */
+    public static long inicioDoDia(LocalDate data) {
+        return data.toEpochDay() * MINUTOS_POR_DIA;
+    }
+
+    /**
+     * Registra a aula se o horário estiver livre (verificação e inserção atômicas);
+     * aula sem horário é sempre registrada
+     * @return Aula em conflito, ou null se a aula foi registrada
+     */
+    public synchronized Aula reservar(Aula aula) {
+        if (aula.getHorario() == null) {
+            adicionar(aula);
+            return null;
+        }
+        long inicio = inicio(aula);
+        Aula conflito = primeiroConflito(inicio, inicio + aula.getDuracao());
+        if (conflito == null) {
+            adicionar(aula);
+        }
+        return conflito;
+    }
+
+    /**
+     * Registra a aula sem verificar conflitos (recuperação de dados já gravados)
+     */
+    public synchronized void registrar(Aula aula) {
+        adicionar(aula);
+    }
+
+    /**
+     * Desfaz uma reserva cuja gravação não se concretizou
+     */
+    public synchronized void liberar(Aula aula) {
+        if (aula.getHorario() == null) {
+            remover(semHorarioPorDia, aula.getData().toEpochDay(), aula);
+        } else {
+            remover(aulasPorInicio, inicio(aula), aula);
+        }
+    }
+
+    /**
+     * @return Aulas que ocupam algum minuto de [inicio, fim), em ordem de início
+     */
+    public synchronized List<Aula> entre(long inicio, long fim) {
+        List<Aula> encontradas = new ArrayList<>();
+        if (fim <= inicio) {
+            return encontradas;
+        }
+        Map.Entry<Long, List<Aula>> anterior = aulasPorInicio.floorEntry(inicio);
+        if (anterior != null) {
+            for (Aula aula : anterior.getValue()) {
+                if (inicio(aula) + aula.getDuracao() > inicio) {
+                    encontradas.add(aula);
+                }
+            }
+        }
+        for (List<Aula> mesmoInicio : aulasPorInicio.subMap(inicio, false, fim, false).values()) {
+            encontradas.addAll(mesmoInicio);
+        }
+        long primeiroDia = Math.floorDiv(inicio, MINUTOS_POR_DIA);
+        long ultimoDia = Math.floorDiv(fim - 1, MINUTOS_POR_DIA);
+        Collection<List<Aula>> semHorario = semHorarioPorDia.subMap(primeiroDia, true, ultimoDia, true).values();
+        return semHorario.isEmpty() ? encontradas : intercalar(semHorario, encontradas);
+    }
+
+    private Aula primeiroConflito(long inicio, long fim) {
+        Map.Entry<Long, List<Aula>> anterior = aulasPorInicio.floorEntry(inicio);
+        if (anterior != null) {
+            for (Aula aula : anterior.getValue()) {
+                if (inicio(aula) + aula.getDuracao() > inicio) {
+                    return aula;
+                }
+            }
+        }
+        // Qualquer aula que comece dentro de (inicio, fim) ocupa ao menos o seu primeiro minuto
+        Map.Entry<Long, List<Aula>> seguinte = aulasPorInicio.higherEntry(inicio);
+        return seguinte != null && seguinte.getKey() < fim ? seguinte.getValue().get(0) : null;
+    }
+
+    private void adicionar(Aula aula) {
+        if (aula.getHorario() == null) {
+            semHorarioPorDia.computeIfAbsent(aula.getData().toEpochDay(), chave -> new ArrayList<>(1)).add(aula);
+        } else {
+            aulasPorInicio.computeIfAbsent(inicio(aula), chave -> new ArrayList<>(1)).add(aula);
+        }
+    }
+
+    private static void remover(NavigableMap<Long, List<Aula>> indice, Long chave, Aula aula) {
+        List<Aula> mesmaChave = indice.get(chave);
+        if (mesmaChave != null && mesmaChave.remove(aula) && mesmaChave.isEmpty()) {
+            indice.remove(chave);
+        }
+    }
+
+    /**
+     * Intercala as aulas sem horário (por dia) com as com horário (por início), em ordem de início;
+     * no mesmo minuto, as sem horário vêm primeiro
+     */
+    private static List<Aula> intercalar(Collection<List<Aula>> semHorario, List<Aula> comHorario) {
+        List<Aula> intercaladas = new ArrayList<>(comHorario.size() + semHorario.size());
+        int proxima = 0;
+        for (List<Aula> doDia : semHorario) {
+            long inicioDoDia = inicio(doDia.get(0));
+            while (proxima < comHorario.size() && inicio(comHorario.get(proxima)) < inicioDoDia) {
+                intercaladas.add(comHorario.get(proxima++));
+            }
+            intercaladas.addAll(doDia);
+        }
+        intercaladas.addAll(comHorario.subList(proxima, comHorario.size()));
+        return intercaladas;
+    }
+}
@@ -0,0 +1,144 @@
+package com.educacao.esportiva;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ARMAZENAMENTO CONCORRENTE EM MEMÓRIA
+ *
+ * Substitui os HashMaps e contadores "Long id++" do controller, que corrompiam
+ * os dados e geravam IDs duplicados sob requisições simultâneas.
+ *
+ * Características:
+ * - Leituras sem bloqueio (ConcurrentHashMap)
+ * - Escritas com travamento por segmento/bucket, escalando entre núcleos
+ * - Alocação atômica de IDs (AtomicLong)
+ *
+ * @param <T> Tipo da entidade armazenada
+ */
+public class ArmazenamentoConcorrente<T> {
+
+    private final ConcurrentHashMap<Long, T> dados;
+    private final AtomicLong proximoId = new AtomicLong(1L);
+
+    public ArmazenamentoConcorrente() {
+        this(16);
+    }
+
+    /**
+     * @param capacidadeInicial Número esperado de registros, evita redimensionamentos
+     */
+    public ArmazenamentoConcorrente(int capacidadeInicial) {
+        this.dados = new ConcurrentHashMap<>(capacidadeInicial);
+    }
+
+    /**
+     * Reserva atomicamente o próximo ID disponível
+     * @return ID exclusivo, nunca entregue a outra chamada
+     */
+    public Long reservarId() {
+        return proximoId.getAndIncrement();
+    }
+
+    /**
+     * Reserva atomicamente uma faixa contínua de IDs com um único incremento
+     * @return Primeiro ID da faixa [primeiro, primeiro + quantidade)
+     */
+    public long reservarIds(int quantidade) {
+        return proximoId.getAndAdd(quantidade);
+    }
+
+    /**
+     * @return Último ID entregue por reservarId (0 se nenhum)
+     */
+    public Long ultimoIdReservado() {
+        return proximoId.get() - 1;
+    }
+
+    public void salvar(Long id, T entidade) {
+        dados.put(id, entidade);
+    }
+
+    /**
+     * Salva uma entidade cujo ID foi definido externamente (ex.: importação),
+     * mantendo o gerador de IDs sempre à frente dos IDs já usados
+     * @return false se o ID já estava em uso (nada é alterado)
+     */
+    public boolean salvarComId(Long id, T entidade) {
+        if (dados.putIfAbsent(id, entidade) != null) {
+            return false;
+        }
+        proximoId.accumulateAndGet(id + 1, Math::max);
+        return true;
+    }
+
+    /**
+     * Grava (ou sobrescreve) uma entidade recuperada do snapshot ou do diário,
+     * avançando o gerador de IDs; reaplicar o mesmo registro não altera o resultado
+     */
+    public void restaurar(Long id, T entidade) {
+        dados.put(id, entidade);
+        proximoId.accumulateAndGet(id + 1, Math::max);
+    }
+
+    /**
+     * Garante que o próximo ID entregue seja maior que ultimoId
+     * (IDs já entregues e depois removidos não são reutilizados após a recuperação)
+     */
+    public void avancarIdPara(long ultimoId) {
+        proximoId.accumulateAndGet(ultimoId + 1, Math::max);
+    }
+
+    /**
+     * Remove todos os registros e reinicia o gerador de IDs
+     */
+    public void limpar() {
+        dados.clear();
+        proximoId.set(1L);
+    }
+
+    public T buscar(Long id) {
+        return id != null ? dados.get(id) : null;
+    }
+
+    public boolean contem(Long id) {
+        return id != null && dados.containsKey(id);
+    }
+
+    /**
+     * Verificação de existência em lote: confere todos os IDs em uma única passada,
+     * sem parar no primeiro ausente
+     * @return IDs ausentes, na ordem recebida (vetor vazio se todos existem)
+     */
+    public long[] idsAusentes(long[] ids) {
+        long[] ausentes = null;
+        int quantidade = 0;
+        for (long id : ids) {
+            if (!dados.containsKey(id)) {
+                if (ausentes == null) {
+                    ausentes = new long[ids.length];
+                }
+                ausentes[quantidade++] = id;
+            }
+        }
+        return ausentes == null ? new long[0] : Arrays.copyOf(ausentes, quantidade);
+    }
+
+    public T remover(Long id) {
+        return dados.remove(id);
+    }
+
+    /**
+     * @return Visão somente leitura e fracamente consistente dos valores armazenados
+     */
+    public Collection<T> valores() {
+        return Collections.unmodifiableCollection(dados.values());
+    }
+
+    public int tamanho() {
+        return dados.size();
+    }
+}
@@ -1,7 +1,8 @@
 package com.educacao.esportiva;
 
 import java.time.LocalDate;
-import java.util.List;
+import java.time.LocalTime;
+import java.util.Arrays;
 
 /**
  * ENTIDADE AULA
@@ -12,15 +13,18 @@ import java.util.List;
  * Atributos:
  * - id: Identificador único da aula
  * - data: Data da realização da aula
+ * - horario: Horário de início (opcional; sem ele, a aula começa às 00:00 da data)
  * - duracao: Duração da aula em minutos
- * - conteudos: Lista de IDs dos conteúdos que serão abordados
+ * - conteudos: IDs dos conteúdos que serão abordados, em um long[] ordenado e sem repetições
+ *   (sem um objeto Long por ID; no JSON continua sendo um array de números)
  * - professorId: ID do professor responsável pela aula
  */
 public class Aula {
     private Long id;
     private LocalDate data;
+    private LocalTime horario;
     private Integer duracao; // Em minutos
-    private List<Long> conteudos; // Lista de IDs de conteúdos
+    private long[] conteudos; // IDs de conteúdos, ordenados e sem repetição
     private Long professorId; // Relacionamento com Professor
 
     // Construtores
@@ -31,14 +35,14 @@ public class Aula {
      * @param id Identificador único
      * @param data Data da aula
      * @param duracao Duração em minutos
-     * @param conteudos Lista de IDs dos conteúdos
+     * @param conteudos IDs dos conteúdos (em qualquer ordem)
      * @param professorId ID do professor responsável
      */
-    public Aula(Long id, LocalDate data, Integer duracao, List<Long> conteudos, Long professorId) {
+    public Aula(Long id, LocalDate data, Integer duracao, long[] conteudos, Long professorId) {
         this.id = id;
         this.data = data;
         this.duracao = duracao;
-        this.conteudos = conteudos;
+        setConteudos(conteudos);
         this.professorId = professorId;
     }
 
@@ -66,6 +70,17 @@ public class Aula {
         this.data = data;
     }
 
+    /**
+     * @return Horário de início da aula, ou null se não informado
+     */
+    public LocalTime getHorario() {
+        return horario;
+    }
+
+    public void setHorario(LocalTime horario) {
+        this.horario = horario;
+    }
+
     /**
      * @return Duração da aula em minutos
      */
@@ -78,14 +93,30 @@ public class Aula {
     }
 
     /**
-     * @return Lista de IDs dos conteúdos da aula
+     * @return IDs dos conteúdos da aula em ordem crescente (o array não deve ser modificado)
      */
-    public List<Long> getConteudos() {
+    public long[] getConteudos() {
         return conteudos;
     }
 
-    public void setConteudos(List<Long> conteudos) {
-        this.conteudos = conteudos;
+    /**
+     * Define os IDs dos conteúdos. Um array já ordenado e sem repetições (o caso comum,
+     * inclusive o criado pelo Jackson) é adotado sem cópia; os demais são copiados,
+     * ordenados e deduplicados.
+     */
+    public void setConteudos(long[] conteudos) {
+        this.conteudos = conteudos == null || ordenadoSemRepeticao(conteudos)
+            ? conteudos
+            : Arrays.stream(conteudos).sorted().distinct().toArray();
+    }
+
+    private static boolean ordenadoSemRepeticao(long[] ids) {
+        for (int i = 1; i < ids.length; i++) {
+            if (ids[i - 1] >= ids[i]) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -104,8 +135,9 @@ public class Aula {
         return "Aula{" +
                 "id=" + id +
                 ", data=" + data +
+                ", horario=" + horario +
                 ", duracao=" + duracao +
-                ", conteudos=" + conteudos +
+                ", conteudos=" + Arrays.toString(conteudos) +
                 ", professorId=" + professorId +
                 '}';
     }
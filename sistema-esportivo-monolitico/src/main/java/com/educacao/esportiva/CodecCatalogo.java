@@ -0,0 +1,178 @@
+package com.educacao.esportiva;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * CODIFICAÇÃO BINÁRIA DAS ENTIDADES
+ *
+ * Formato compacto compartilhado pelo snapshot e pelo diário de mutações:
+ * um byte com o tipo da entidade seguido dos campos em ordem fixa.
+ * Campos nulos usam marcadores (-1 para tamanhos, MIN_VALUE para números),
+ * evitando o custo e o volume do JSON na gravação e na recuperação.
+ */
+final class CodecCatalogo {
+
+    static final byte TIPO_ESPORTE = 1;
+    static final byte TIPO_CONTEUDO = 2;
+    static final byte TIPO_PROFESSOR = 3;
+    static final byte TIPO_CATEGORIA = 4;
+    static final byte TIPO_AULA = 5;
+
+    /**
+     * Marcador gravado no lugar de TIPO_AULA nos registros que incluem o horário;
+     * registros antigos (TIPO_AULA, sem horário) continuam legíveis
+     */
+    static final byte TIPO_AULA_COM_HORARIO = 6;
+
+    private CodecCatalogo() {}
+
+    static byte tipoDe(Object entidade) {
+        if (entidade instanceof Esporte) return TIPO_ESPORTE;
+        if (entidade instanceof Conteudo) return TIPO_CONTEUDO;
+        if (entidade instanceof Professor) return TIPO_PROFESSOR;
+        if (entidade instanceof Categoria) return TIPO_CATEGORIA;
+        if (entidade instanceof Aula) return TIPO_AULA;
+        throw new IllegalArgumentException("Entidade não suportada: " + entidade.getClass().getName());
+    }
+
+    static Long idDe(Object entidade) {
+        if (entidade instanceof Esporte esporte) return esporte.getId();
+        if (entidade instanceof Conteudo conteudo) return conteudo.getId();
+        if (entidade instanceof Professor professor) return professor.getId();
+        if (entidade instanceof Categoria categoria) return categoria.getId();
+        if (entidade instanceof Aula aula) return aula.getId();
+        throw new IllegalArgumentException("Entidade não suportada: " + entidade.getClass().getName());
+    }
+
+    /**
+     * Escreve o tipo e os campos da entidade
+     */
+    static void escrever(DataOutput saida, Object entidade) throws IOException {
+        byte tipo = tipoDe(entidade);
+        saida.writeByte(tipo == TIPO_AULA ? TIPO_AULA_COM_HORARIO : tipo);
+        switch (tipo) {
+            case TIPO_ESPORTE -> {
+                Esporte esporte = (Esporte) entidade;
+                escreverLong(saida, esporte.getId());
+                escreverTexto(saida, esporte.getNome());
+                escreverTexto(saida, esporte.getCategoria());
+            }
+            case TIPO_CONTEUDO -> {
+                Conteudo conteudo = (Conteudo) entidade;
+                escreverLong(saida, conteudo.getId());
+                escreverTexto(saida, conteudo.getTitulo());
+                escreverTexto(saida, conteudo.getUrl());
+                escreverTexto(saida, conteudo.getNivel());
+                escreverLong(saida, conteudo.getEsporteId());
+            }
+            case TIPO_PROFESSOR -> {
+                Professor professor = (Professor) entidade;
+                escreverLong(saida, professor.getId());
+                escreverTexto(saida, professor.getNome());
+                escreverTexto(saida, professor.getEspecializacao());
+            }
+            case TIPO_CATEGORIA -> {
+                Categoria categoria = (Categoria) entidade;
+                escreverLong(saida, categoria.getId());
+                escreverTexto(saida, categoria.getNome());
+            }
+            default -> {
+                Aula aula = (Aula) entidade;
+                escreverLong(saida, aula.getId());
+                escreverLong(saida, aula.getData() != null ? aula.getData().toEpochDay() : null);
+                saida.writeInt(aula.getDuracao() != null ? aula.getDuracao() : Integer.MIN_VALUE);
+                long[] conteudos = aula.getConteudos();
+                saida.writeInt(conteudos != null ? conteudos.length : -1);
+                if (conteudos != null) {
+                    for (long conteudoId : conteudos) {
+                        saida.writeLong(conteudoId);
+                    }
+                }
+                escreverLong(saida, aula.getProfessorId());
+                saida.writeInt(aula.getHorario() != null ? aula.getHorario().toSecondOfDay() : Integer.MIN_VALUE);
+            }
+        }
+    }
+
+    /**
+     * Lê uma entidade gravada por {@link #escrever}
+     */
+    static Object ler(DataInput entrada) throws IOException {
+        byte tipo = entrada.readByte();
+        return lerCampos(entrada, tipo);
+    }
+
+    static Object lerCampos(DataInput entrada, byte tipo) throws IOException {
+        switch (tipo) {
+            case TIPO_ESPORTE:
+                return new Esporte(lerLong(entrada), lerTexto(entrada), lerTexto(entrada));
+            case TIPO_CONTEUDO:
+                return new Conteudo(lerLong(entrada), lerTexto(entrada), lerTexto(entrada),
+                    lerTexto(entrada), lerLong(entrada));
+            case TIPO_PROFESSOR:
+                return new Professor(lerLong(entrada), lerTexto(entrada), lerTexto(entrada));
+            case TIPO_CATEGORIA:
+                return new Categoria(lerLong(entrada), lerTexto(entrada));
+            case TIPO_AULA:
+            case TIPO_AULA_COM_HORARIO: {
+                Long id = lerLong(entrada);
+                Long diaEpoca = lerLong(entrada);
+                int duracao = entrada.readInt();
+                int quantidade = entrada.readInt();
+                long[] conteudos = null;
+                if (quantidade >= 0) {
+                    conteudos = new long[quantidade];
+                    for (int i = 0; i < quantidade; i++) {
+                        conteudos[i] = entrada.readLong();
+                    }
+                }
+                Aula aula = new Aula(id,
+                    diaEpoca != null ? LocalDate.ofEpochDay(diaEpoca) : null,
+                    duracao != Integer.MIN_VALUE ? duracao : null,
+                    conteudos,
+                    lerLong(entrada));
+                if (tipo == TIPO_AULA_COM_HORARIO) {
+                    int segundos = entrada.readInt();
+                    aula.setHorario(segundos != Integer.MIN_VALUE ? LocalTime.ofSecondOfDay(segundos) : null);
+                }
+                return aula;
+            }
+            default:
+                throw new IOException("Tipo de entidade desconhecido: " + tipo);
+        }
+    }
+
+    private static void escreverLong(DataOutput saida, Long valor) throws IOException {
+        saida.writeLong(valor != null ? valor : Long.MIN_VALUE);
+    }
+
+    private static Long lerLong(DataInput entrada) throws IOException {
+        long valor = entrada.readLong();
+        return valor != Long.MIN_VALUE ? valor : null;
+    }
+
+    private static void escreverTexto(DataOutput saida, String texto) throws IOException {
+        if (texto == null) {
+            saida.writeInt(-1);
+            return;
+        }
+        byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+        saida.writeInt(bytes.length);
+        saida.write(bytes);
+    }
+
+    private static String lerTexto(DataInput entrada) throws IOException {
+        int tamanho = entrada.readInt();
+        if (tamanho < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[tamanho];
+        entrada.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,421 @@
+package com.educacao.esportiva;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * DIÁRIO DE MUTAÇÕES (WRITE-AHEAD LOG)
+ *
+ * Registro somente de acréscimo das alterações feitas no catálogo em memória,
+ * dividido em segmentos numerados (diario-NNN.wal). Cada registro é um quadro
+ * [tamanho][CRC32][operação + entidade codificada por {@link CodecCatalogo}].
+ *
+ * Commit em grupo: as requisições apenas enfileiram seus registros; uma única thread
+ * escritora drena a fila, grava todos os quadros pendentes com uma escrita vetorizada
+ * no FileChannel e executa um único force() para o lote inteiro, liberando em seguida
+ * todas as requisições que aguardavam. Sob carga, o custo do fsync é dividido entre
+ * muitas gravações.
+ *
+ * A reaplicação é idempotente (salvar sobrescreve pelo ID, remover ignora ausentes),
+ * o que permite combiná-la com um snapshot feito sem bloquear as escritas.
+ *
+ * O diário não desfaz nada em memória: quem altera o catálogo antes de registrar a
+ * mutação (o caso das operações unitárias do controller) e recebe o futuro com falha
+ * mantém a alteração visível até o próximo reinício, quando ela deixa de existir. A
+ * requisição responde com erro, mas leitores concorrentes podem tê-la visto.
+ *
+ * Depois de close(), nenhum registro novo é aceito (o futuro já vem com falha), e os
+ * que estavam na fila são gravados ou, se o escritor parou antes, concluídos com falha:
+ * nenhuma requisição fica presa aguardando o disco.
+ */
+final class DiarioMutacoes implements Closeable {
+
+    static final byte OPERACAO_SALVAR = 1;
+    static final byte OPERACAO_REMOVER = 2;
+    static final byte OPERACAO_SALVAR_LOTE = 3;
+
+    /**
+     * Recebe as mutações lidas do diário durante a recuperação
+     */
+    interface Aplicador {
+        void salvar(Object entidade);
+
+        void remover(byte tipo, Long id);
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(DiarioMutacoes.class);
+    private static final Pattern NOME_SEGMENTO = Pattern.compile("diario-(\\d+)\\.wal");
+    private static final int CABECALHO_QUADRO = 8;
+    private static final int MAXIMO_POR_LOTE = 4096;
+
+    private final Path diretorio;
+    private final BlockingQueue<Pendente> fila = new LinkedBlockingQueue<>();
+    private final Thread escritor;
+    private final Pendente sinalEncerramento = new Pendente(null);
+
+    // Enfileirar x encerrar: nada entra na fila depois do sinal de encerramento
+    private final Object travaFila = new Object();
+
+    // Protegidos pelo monitor desta instância (gravação de lote x rotação)
+    private FileChannel canal;
+    private long segmentoAtual;
+
+    // Protegido por travaFila
+    private boolean fechado;
+
+    /**
+     * Abre um novo segmento após o último existente no diretório
+     */
+    DiarioMutacoes(Path diretorio) throws IOException {
+        this.diretorio = diretorio;
+        this.segmentoAtual = ultimoSegmento(diretorio) + 1;
+        this.canal = abrirSegmento(segmentoAtual);
+        this.escritor = new Thread(this::escreverLotes, "diario-mutacoes");
+        this.escritor.setDaemon(true);
+        this.escritor.start();
+    }
+
+    /**
+     * Enfileira a gravação do estado atual da entidade.
+     * A entidade é codificada na thread chamadora, refletindo o estado deste instante.
+     * @return Concluído quando o registro estiver gravado em disco
+     */
+    CompletableFuture<Void> registrarSalvar(Object entidade) {
+        return enfileirar(saida -> {
+            saida.writeByte(OPERACAO_SALVAR);
+            CodecCatalogo.escrever(saida, entidade);
+        });
+    }
+
+    /**
+     * Enfileira várias entidades em um único quadro: como o CRC cobre o quadro inteiro,
+     * a recuperação reaplica todas ou nenhuma
+     * @return Concluído quando o lote estiver gravado em disco
+     */
+    CompletableFuture<Void> registrarSalvarTodos(List<?> entidades) {
+        return enfileirar(saida -> {
+            saida.writeByte(OPERACAO_SALVAR_LOTE);
+            saida.writeInt(entidades.size());
+            for (Object entidade : entidades) {
+                CodecCatalogo.escrever(saida, entidade);
+            }
+        });
+    }
+
+    /**
+     * Enfileira a remoção de uma entidade
+     * @return Concluído quando o registro estiver gravado em disco
+     */
+    CompletableFuture<Void> registrarRemocao(byte tipo, Long id) {
+        return enfileirar(saida -> {
+            saida.writeByte(OPERACAO_REMOVER);
+            saida.writeByte(tipo);
+            saida.writeLong(id);
+        });
+    }
+
+    /**
+     * Fecha o segmento atual e passa a gravar em um novo.
+     * Registros ainda na fila vão para o novo segmento.
+     * @return Número do novo segmento
+     */
+    synchronized long rotacionar() throws IOException {
+        canal.force(false);
+        canal.close();
+        segmentoAtual++;
+        canal = abrirSegmento(segmentoAtual);
+        return segmentoAtual;
+    }
+
+    /**
+     * Exclui os segmentos anteriores ao informado (já cobertos por um snapshot)
+     */
+    void excluirSegmentosAnteriores(long segmento) throws IOException {
+        for (long numero : segmentos(diretorio)) {
+            if (numero < segmento) {
+                Files.deleteIfExists(caminhoSegmento(diretorio, numero));
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (travaFila) {
+            if (fechado) {
+                return;
+            }
+            fechado = true;
+            fila.add(sinalEncerramento);
+        }
+        aguardarEscritor();
+        falharPendentes(new IllegalStateException("Diário de mutações encerrado antes da gravação"));
+        synchronized (this) {
+            canal.force(false);
+            canal.close();
+        }
+    }
+
+    // ========================================================================
+    // RECUPERAÇÃO
+    // ========================================================================
+
+    static boolean possuiSegmentos(Path diretorio) throws IOException {
+        return !segmentos(diretorio).isEmpty();
+    }
+
+    /**
+     * Reaplica, em ordem, todos os segmentos a partir de segmentoInicial.
+     * Um quadro incompleto ou corrompido (queda durante a gravação) encerra a leitura
+     * do segmento, que é truncado nesse ponto.
+     * @return Quantidade de mutações reaplicadas
+     */
+    static long reaplicar(Path diretorio, long segmentoInicial, Aplicador aplicador) throws IOException {
+        long total = 0;
+        for (long numero : segmentos(diretorio)) {
+            if (numero >= segmentoInicial) {
+                total += reaplicarSegmento(caminhoSegmento(diretorio, numero), aplicador);
+            }
+        }
+        return total;
+    }
+
+    private static long reaplicarSegmento(Path arquivo, Aplicador aplicador) throws IOException {
+        long aplicadas = 0;
+        long posicaoValida = 0;
+        long tamanhoArquivo = Files.size(arquivo);
+        CRC32 crc = new CRC32();
+
+        try (InputStream arquivoEntrada = Files.newInputStream(arquivo);
+             DataInputStream entrada = new DataInputStream(new BufferedInputStream(arquivoEntrada, 1 << 16))) {
+            while (true) {
+                byte[] registro;
+                try {
+                    int tamanho = entrada.readInt();
+                    int checksum = entrada.readInt();
+                    if (tamanho <= 0 || tamanho > tamanhoArquivo - posicaoValida - CABECALHO_QUADRO) {
+                        break;
+                    }
+                    registro = new byte[tamanho];
+                    entrada.readFully(registro);
+                    crc.reset();
+                    crc.update(registro);
+                    if ((int) crc.getValue() != checksum) {
+                        break;
+                    }
+                } catch (EOFException e) {
+                    break;
+                }
+
+                aplicarRegistro(registro, aplicador);
+                aplicadas++;
+                posicaoValida += CABECALHO_QUADRO + registro.length;
+            }
+        }
+
+        if (tamanhoArquivo > posicaoValida) {
+            log.warn("Segmento {} com final incompleto; truncando em {} bytes", arquivo.getFileName(), posicaoValida);
+            try (FileChannel truncar = FileChannel.open(arquivo, StandardOpenOption.WRITE)) {
+                truncar.truncate(posicaoValida);
+            }
+        }
+        return aplicadas;
+    }
+
+    private static void aplicarRegistro(byte[] registro, Aplicador aplicador) throws IOException {
+        DataInputStream entrada = new DataInputStream(new ByteArrayInputStream(registro));
+        byte operacao = entrada.readByte();
+        if (operacao == OPERACAO_SALVAR) {
+            aplicador.salvar(CodecCatalogo.ler(entrada));
+        } else if (operacao == OPERACAO_SALVAR_LOTE) {
+            int quantidade = entrada.readInt();
+            for (int i = 0; i < quantidade; i++) {
+                aplicador.salvar(CodecCatalogo.ler(entrada));
+            }
+        } else if (operacao == OPERACAO_REMOVER) {
+            aplicador.remover(entrada.readByte(), entrada.readLong());
+        } else {
+            throw new IOException("Operação desconhecida no diário: " + operacao);
+        }
+    }
+
+    // ========================================================================
+    // GRAVAÇÃO
+    // ========================================================================
+
+    private interface Codificador {
+        void codificar(DataOutputStream saida) throws IOException;
+    }
+
+    private static final class Pendente {
+        final ByteBuffer quadro;
+        final CompletableFuture<Void> gravado = new CompletableFuture<>();
+
+        Pendente(ByteBuffer quadro) {
+            this.quadro = quadro;
+        }
+    }
+
+    private CompletableFuture<Void> enfileirar(Codificador codificador) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+            DataOutputStream saida = new DataOutputStream(bytes);
+            saida.writeInt(0); // tamanho e CRC preenchidos abaixo
+            saida.writeInt(0);
+            codificador.codificar(saida);
+
+            ByteBuffer quadro = ByteBuffer.wrap(bytes.toByteArray());
+            int tamanho = quadro.capacity() - CABECALHO_QUADRO;
+            CRC32 crc = new CRC32();
+            crc.update(quadro.array(), CABECALHO_QUADRO, tamanho);
+            quadro.putInt(0, tamanho);
+            quadro.putInt(4, (int) crc.getValue());
+
+            Pendente pendente = new Pendente(quadro);
+            synchronized (travaFila) {
+                if (fechado) {
+                    return CompletableFuture.failedFuture(new IllegalStateException("Diário de mutações encerrado"));
+                }
+                fila.add(pendente);
+            }
+            return pendente.gravado;
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void escreverLotes() {
+        List<Pendente> lote = new ArrayList<>();
+        boolean encerrar = false;
+        while (!encerrar) {
+            try {
+                lote.add(fila.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                synchronized (travaFila) {
+                    fechado = true;
+                }
+                falharPendentes(new IllegalStateException("Escritor do diário de mutações interrompido"));
+                return;
+            }
+            fila.drainTo(lote, MAXIMO_POR_LOTE - 1);
+
+            if (lote.remove(sinalEncerramento)) {
+                encerrar = true;
+                // Registros enfileirados junto com o encerramento ainda são gravados
+                fila.drainTo(lote);
+            }
+            if (lote.isEmpty()) {
+                continue;
+            }
+
+            try {
+                gravarLote(lote);
+                for (Pendente pendente : lote) {
+                    pendente.gravado.complete(null);
+                }
+            } catch (IOException | RuntimeException e) {
+                log.error("Falha ao gravar {} registros no diário de mutações", lote.size(), e);
+                for (Pendente pendente : lote) {
+                    pendente.gravado.completeExceptionally(e);
+                }
+            }
+            lote.clear();
+        }
+    }
+
+    /**
+     * Aguarda o escritor terminar a fila, mesmo que a thread atual seja interrompida
+     */
+    private void aguardarEscritor() {
+        boolean interrompido = false;
+        while (escritor.isAlive()) {
+            try {
+                escritor.join();
+            } catch (InterruptedException e) {
+                interrompido = true;
+            }
+        }
+        if (interrompido) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Conclui com falha os registros que ficaram na fila sem escritor para gravá-los
+     */
+    private void falharPendentes(Exception causa) {
+        List<Pendente> restantes = new ArrayList<>();
+        fila.drainTo(restantes);
+        for (Pendente pendente : restantes) {
+            pendente.gravado.completeExceptionally(causa);
+        }
+    }
+
+    private synchronized void gravarLote(List<Pendente> lote) throws IOException {
+        ByteBuffer[] quadros = new ByteBuffer[lote.size()];
+        long restante = 0;
+        for (int i = 0; i < quadros.length; i++) {
+            quadros[i] = lote.get(i).quadro;
+            restante += quadros[i].remaining();
+        }
+        while (restante > 0) {
+            restante -= canal.write(quadros);
+        }
+        canal.force(false);
+    }
+
+    private FileChannel abrirSegmento(long numero) throws IOException {
+        return FileChannel.open(caminhoSegmento(diretorio, numero),
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private static Path caminhoSegmento(Path diretorio, long numero) {
+        return diretorio.resolve(String.format("diario-%012d.wal", numero));
+    }
+
+    private static long ultimoSegmento(Path diretorio) throws IOException {
+        List<Long> existentes = segmentos(diretorio);
+        return existentes.isEmpty() ? 0 : existentes.get(existentes.size() - 1);
+    }
+
+    /**
+     * @return Números dos segmentos existentes, em ordem crescente
+     */
+    private static List<Long> segmentos(Path diretorio) throws IOException {
+        List<Long> numeros = new ArrayList<>();
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            arquivos.forEach(arquivo -> {
+                Matcher nome = NOME_SEGMENTO.matcher(arquivo.getFileName().toString());
+                if (nome.matches()) {
+                    numeros.add(Long.parseLong(nome.group(1)));
+                }
+            });
+        }
+        numeros.sort(null);
+        return numeros;
+    }
+}
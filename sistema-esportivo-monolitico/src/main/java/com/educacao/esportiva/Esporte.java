@@ -10,11 +10,14 @@ package com.educacao.esportiva;
  * - id: Identificador único do esporte
  * - nome: Nome da modalidade (ex: Vôlei, Basquete, Futebol)
  * - categoria: Tipo de esporte (ex: Coletivo, Individual, Aquático)
+ * - codigoCategoria: ID da Categoria correspondente no dicionário de categorias,
+ *   atribuído pelo sistema (usado como chave dos índices em vez do texto)
  */
 public class Esporte {
     private Long id;
     private String nome;
     private String categoria;
+    private Long codigoCategoria;
 
     // Construtores
     public Esporte() {}
@@ -66,12 +69,24 @@ public class Esporte {
         this.categoria = categoria;
     }
 
+    /**
+     * @return Código da categoria no dicionário (ID da Categoria)
+     */
+    public Long getCodigoCategoria() {
+        return codigoCategoria;
+    }
+
+    public void setCodigoCategoria(Long codigoCategoria) {
+        this.codigoCategoria = codigoCategoria;
+    }
+
     @Override
     public String toString() {
         return "Esporte{" +
                 "id=" + id +
                 ", nome='" + nome + '\'' +
                 ", categoria='" + categoria + '\'' +
+                ", codigoCategoria=" + codigoCategoria +
                 '}';
     }
 }
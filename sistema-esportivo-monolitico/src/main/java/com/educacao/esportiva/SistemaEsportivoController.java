@@ -1,12 +1,47 @@
 package com.educacao.esportiva;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.HttpStatus;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.Normalizer;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * ========================================================================
@@ -21,7 +56,7 @@ import java.util.stream.Collectors;
  *    - Uma única classe gerencia TODAS as responsabilidades:
  *      * Controle de requisições HTTP
  *      * Lógica de negócio
- *      * Persistência de dados (HashMap)
+ *      * Persistência de dados (em memória)
  *      * Validações
  *      * Filtros e consultas
  *
@@ -30,7 +65,7 @@ import java.util.stream.Collectors;
  *    - Não é extensível sem modificação
  *
  * 3. VIOLAÇÃO DO DEPENDENCY INVERSION PRINCIPLE (DIP):
- *    - Depende diretamente de implementações concretas (HashMap)
+ *    - Depende diretamente de implementações concretas (ArmazenamentoConcorrente)
  *    - Não usa abstrações/interfaces
  *
  * 4. PROBLEMAS ADICIONAIS:
@@ -42,28 +77,155 @@ import java.util.stream.Collectors;
  */
 @RestController
 @RequestMapping("/api")
-public class SistemaEsportivoController {
+public class SistemaEsportivoController implements MeterBinder {
 
     // ========================================================================
     // ARMAZENAMENTO EM MEMÓRIA - SIMULA BANCO DE DADOS
     // ========================================================================
 
     /**
-     * PROBLEMA: Persistência hardcoded na classe de controle
+     * PROBLEMA: Persistência instanciada diretamente na classe de controle
      * Deveria estar em uma camada separada (Repository)
+     *
+     * Cada armazenamento é seguro para acesso concorrente e aloca seus próprios IDs
+     * atomicamente, já que o controller é um singleton atendendo várias threads.
+     */
+    private final ArmazenamentoConcorrente<Esporte> esportes = new ArmazenamentoConcorrente<>();
+    private final ArmazenamentoConcorrente<Conteudo> conteudos = new ArmazenamentoConcorrente<>();
+    private final ArmazenamentoConcorrente<Professor> professores = new ArmazenamentoConcorrente<>();
+    private final ArmazenamentoConcorrente<Categoria> categorias = new ArmazenamentoConcorrente<>();
+    private final ArmazenamentoConcorrente<Aula> aulas = new ArmazenamentoConcorrente<>();
+
+    /**
+     * Armazenamentos por tipo de entidade, usados pelo snapshot e pela recuperação do diário
+     */
+    private final Map<Byte, ArmazenamentoConcorrente<?>> armazenamentosPorTipo = Map.of(
+        CodecCatalogo.TIPO_ESPORTE, esportes,
+        CodecCatalogo.TIPO_CONTEUDO, conteudos,
+        CodecCatalogo.TIPO_PROFESSOR, professores,
+        CodecCatalogo.TIPO_CATEGORIA, categorias,
+        CodecCatalogo.TIPO_AULA, aulas);
+
+    // ========================================================================
+    // ÍNDICES EM MEMÓRIA - EVITAM VARREDURAS COMPLETAS NAS CONSULTAS
+    // ========================================================================
+
+    /**
+     * Dicionário de categorias: categoria normalizada -> Categoria, cujo ID é o código
+     * usado pelos índices. Cada texto distinto de categoria vira uma única Categoria
+     * (criada na primeira vez em que aparece); daí em diante as comparações e
+     * agrupamentos são feitos por código numérico, e não por texto.
+     */
+    private final Map<String, Categoria> categoriasPorNome = new ConcurrentHashMap<>();
+
+    /**
+     * Índice invertido: código da categoria -> IDs das aulas que possuem
+     * ao menos um conteúdo de esporte daquela categoria (ordenados por ID).
+     * Mantido incrementalmente em criarAula, criarConteudo e atualizarEsporte,
+     * de modo que o filtro por categoria custa O(aulas encontradas).
+     */
+    private final Map<Long, Set<Long>> aulasPorCategoria = new ConcurrentHashMap<>();
+
+    /**
+     * Visão materializada: ID da aula -> códigos das categorias dos seus conteúdos
+     * (vetor ordenado, substituído por inteiro a cada recálculo).
+     * Calculada uma vez na escrita; o caminho aula -> conteúdos -> esportes só é
+     * percorrido de novo para as aulas afetadas por uma mudança, encontradas pelo
+     * grafo de dependências esporte -> conteúdos (conteudosPorEsporte) e
+     * conteúdo -> aulas (aulasPorConteudo).
+     */
+    private final Map<Long, long[]> categoriasPorAula = new ConcurrentHashMap<>();
+
+    /**
+     * Índice reverso: ID do conteúdo -> IDs das aulas que o utilizam.
+     * Permite descobrir quais aulas são afetadas quando a categoria de um esporte muda.
+     */
+    private final Map<Long, Set<Long>> aulasPorConteudo = new ConcurrentHashMap<>();
+
+    /**
+     * Índice secundário: ID do esporte -> IDs dos seus conteúdos (ordenados por ID).
+     * Mantido na criação e exclusão de conteúdos; a listagem por esporte custa
+     * O(conteúdos do esporte) em vez de O(todos os conteúdos).
+     */
+    private final Map<Long, NavigableSet<Long>> conteudosPorEsporte = new ConcurrentHashMap<>();
+
+    /**
+     * Índice de nomes únicos: nome normalizado (sem acentos e caixa) -> ID do esporte.
+     * A reserva via putIfAbsent torna a verificação de duplicidade O(1) e atômica com
+     * a inserção: duas requisições simultâneas com o mesmo nome não podem ambas vencer.
+     */
+    private final Map<String, Long> esportesPorNome = new ConcurrentHashMap<>();
+
+    /**
+     * Índice secundário: especialização normalizada (sem acentos e caixa) -> IDs dos
+     * professores (ordenados por ID). O filtro por especialização custa
+     * O(professores encontrados) em vez de percorrer todos os professores.
+     */
+    private final Map<String, NavigableSet<Long>> professoresPorEspecializacao = new ConcurrentHashMap<>();
+
+    /**
+     * Índice de intervalos: ID do professor -> agenda com suas aulas ordenadas por início.
+     * Detecta choques de horário em criarAula em O(log n) e atende a consulta da agenda
+     * por período sem percorrer todas as aulas.
+     */
+    private final Map<Long, AgendaProfessor> agendasPorProfessor = new ConcurrentHashMap<>();
+
+    /**
+     * Índice ordenado por data: dia (epoch day) -> IDs das aulas do dia (ordenados por ID).
+     * A consulta por período localiza o primeiro dia em O(log n) e percorre apenas os
+     * dias do intervalo, já em ordem de data.
+     */
+    private final ConcurrentSkipListMap<Long, Set<Long>> aulasPorData = new ConcurrentSkipListMap<>();
+
+    private static final Logger log = LoggerFactory.getLogger(SistemaEsportivoController.class);
+
+    private static final Pattern MARCAS_DIACRITICAS = Pattern.compile("\\p{M}+");
+
+    private static final long SEM_CATEGORIA = -1L;
+
+    // Valor provisório no índice de nomes enquanto o ID do esporte ainda não foi gerado
+    private static final Long NOME_RESERVADO = 0L;
+
+    // Formato NDJSON da exportação/importação do catálogo
+    static final String MEDIA_TYPE_NDJSON = "application/x-ndjson";
+    static final String TIPO_ESPORTE = "esporte";
+    static final String TIPO_CONTEUDO = "conteudo";
+    static final String TIPO_PROFESSOR = "professor";
+    static final String TIPO_AULA = "aula";
+    static final int MAXIMO_ERROS_IMPORTACAO = 100;
+
+    static final int MAXIMO_AULAS_POR_LOTE = 10000;
+
+    /**
+     * PROBLEMA: Dependência injetada por campo, fora do construtor
+     * Usado na serialização/leitura NDJSON com a mesma configuração do Spring (datas etc.)
      */
-    private final Map<Long, Esporte> esportes = new HashMap<>();
-    private final Map<Long, Conteudo> conteudos = new HashMap<>();
-    private final Map<Long, Professor> professores = new HashMap<>();
-    private final Map<Long, Categoria> categorias = new HashMap<>();
-    private final Map<Long, Aula> aulas = new HashMap<>();
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // ========================================================================
+    // PERSISTÊNCIA EM DISCO - SNAPSHOT + DIÁRIO DE MUTAÇÕES
+    // ========================================================================
+
+    static final String ARQUIVO_SNAPSHOT = "catalogo.snapshot";
+
+    /**
+     * Diretório dos arquivos de persistência; vazio mantém tudo apenas em memória
+     * PROBLEMA: Configuração de infraestrutura lida diretamente pelo controller
+     */
+    @Value("${persistencia.diretorio:}")
+    private String diretorioPersistencia;
+
+    @Value("${persistencia.snapshot.intervalo-segundos:300}")
+    private long intervaloSnapshotSegundos;
+
+    private Path diretorio;
+    private DiarioMutacoes diario; // null quando a persistência está desabilitada
+    private ScheduledExecutorService agendadorSnapshots;
 
-    // Contadores para IDs automáticos - PROBLEMA: Lógica de ID na camada de controle
-    private Long esporteIdCounter = 1L;
-    private Long conteudoIdCounter = 1L;
-    private Long professorIdCounter = 1L;
-    private Long categoriaIdCounter = 1L;
-    private Long aulaIdCounter = 1L;
+    // Leitura: registro no diário seguido da publicação em memória (lote de aulas).
+    // Escrita: rotação do diário no snapshot, que espera as publicações em andamento
+    private final ReadWriteLock travaPublicacao = new ReentrantReadWriteLock();
 
     /**
      * Construtor que inicializa dados de exemplo
@@ -73,6 +235,87 @@ public class SistemaEsportivoController {
         inicializarDadosExemplo();
     }
 
+    /**
+     * Recupera o catálogo do disco (snapshot + diário) quando a persistência está configurada.
+     * Na primeira execução, os dados de exemplo viram o snapshot inicial.
+     */
+    @PostConstruct
+    void iniciarPersistencia() throws IOException {
+        if (diretorioPersistencia == null || diretorioPersistencia.isBlank()) {
+            return;
+        }
+        diretorio = Files.createDirectories(Paths.get(diretorioPersistencia));
+        Path snapshot = diretorio.resolve(ARQUIVO_SNAPSHOT);
+
+        if (Files.exists(snapshot) || DiarioMutacoes.possuiSegmentos(diretorio)) {
+            long inicio = System.nanoTime();
+            armazenamentosPorTipo.values().forEach(ArmazenamentoConcorrente::limpar);
+
+            long segmento = Files.exists(snapshot) ? SnapshotCatalogo.carregar(snapshot, armazenamentosPorTipo) : 0;
+            long mutacoes = DiarioMutacoes.reaplicar(diretorio, segmento, new DiarioMutacoes.Aplicador() {
+                @Override
+                public void salvar(Object entidade) {
+                    restaurarEntidade(entidade);
+                }
+
+                @Override
+                public void remover(byte tipo, Long id) {
+                    armazenamentosPorTipo.get(tipo).remover(id);
+                }
+            });
+            reconstruirIndices();
+
+            log.info("Catálogo recuperado de {} em {} ms ({} mutações reaplicadas do diário)",
+                diretorio, (System.nanoTime() - inicio) / 1_000_000, mutacoes);
+        }
+
+        diario = new DiarioMutacoes(diretorio);
+        gravarSnapshot();
+
+        agendadorSnapshots = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "snapshot-catalogo");
+            thread.setDaemon(true);
+            return thread;
+        });
+        agendadorSnapshots.scheduleWithFixedDelay(() -> {
+            try {
+                gravarSnapshot();
+            } catch (IOException e) {
+                log.error("Falha ao gravar snapshot do catálogo", e);
+            }
+        }, intervaloSnapshotSegundos, intervaloSnapshotSegundos, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Grava um snapshot final e fecha o diário
+     */
+    @PreDestroy
+    void encerrarPersistencia() throws IOException {
+        if (diario == null) {
+            return;
+        }
+        agendadorSnapshots.shutdownNow();
+        gravarSnapshot();
+        diario.close();
+    }
+
+    /**
+     * Inicia um novo segmento do diário, grava o snapshot e descarta os segmentos
+     * anteriores, que ficam cobertos por ele. As escritas continuam durante a gravação.
+     */
+    synchronized void gravarSnapshot() throws IOException {
+        long segmento;
+        travaPublicacao.writeLock().lock();
+        try {
+            segmento = diario.rotacionar();
+        } finally {
+            travaPublicacao.writeLock().unlock();
+        }
+        SnapshotCatalogo.gravar(diretorio.resolve(ARQUIVO_SNAPSHOT), segmento, armazenamentosPorTipo);
+        diario.excluirSegmentosAnteriores(segmento);
+    }
+
+
     // ========================================================================
     // ENDPOINTS PARA ESPORTES
     // ========================================================================
@@ -100,19 +343,32 @@ public class SistemaEsportivoController {
             }
 
             // PROBLEMA: Lógica de negócio no controller
-            // Verificar se já existe esporte com mesmo nome
-            for (Esporte e : esportes.values()) {
-                if (e.getNome().equalsIgnoreCase(esporte.getNome())) {
-                    return ResponseEntity.badRequest()
-                        .body("Erro: Já existe um esporte com este nome");
-                }
+            // Reserva o nome no índice antes de gerar o ID e codificar a categoria: um nome
+            // duplicado é recusado sem consumir ID nem criar categoria
+            String chaveNome = normalizarNome(esporte.getNome());
+            if (esportesPorNome.putIfAbsent(chaveNome, NOME_RESERVADO) != null) {
+                return ResponseEntity.badRequest()
+                    .body("Erro: Já existe um esporte com este nome");
             }
 
             // PROBLEMA: Geração de ID no controller
-            esporte.setId(esporteIdCounter++);
-
-            // PROBLEMA: Persistência direta sem abstração
-            esportes.put(esporte.getId(), esporte);
+            Long id = esportes.reservarId();
+            try {
+                esporte.setId(id);
+                esportesPorNome.replace(chaveNome, NOME_RESERVADO, id);
+                esporte.setCodigoCategoria(codificarCategoria(esporte.getCategoria()).getId());
+
+                // PROBLEMA: Persistência direta sem abstração
+                esportes.salvar(id, esporte);
+                registrarNoDiario(esporte);
+            } catch (RuntimeException e) {
+                // Sem o registro no diário, o esporte não sobreviveria a um reinício: desfaz
+                // a gravação em memória e libera o nome, que de outro modo ficaria preso
+                esportes.remover(id);
+                esportesPorNome.remove(chaveNome, id);
+                esportesPorNome.remove(chaveNome, NOME_RESERVADO);
+                throw e;
+            }
 
             return ResponseEntity.status(HttpStatus.CREATED).body(esporte);
 
@@ -128,7 +384,66 @@ public class SistemaEsportivoController {
      */
     @GetMapping("/esportes")
     public ResponseEntity<List<Esporte>> listarEsportes() {
-        return ResponseEntity.ok(new ArrayList<>(esportes.values()));
+        return ResponseEntity.ok(new ArrayList<>(esportes.valores()));
+    }
+
+    /**
+     * PUT /api/esportes/{id} - Atualiza nome e categoria de um esporte
+     *
+     * Quando a categoria muda, apenas as aulas que usam conteúdos deste esporte
+     * são reindexadas no índice de categorias.
+     */
+    @PutMapping("/esportes/{id}")
+    public ResponseEntity<?> atualizarEsporte(@PathVariable Long id, @RequestBody Esporte dados) {
+        try {
+            Esporte esporte = esportes.buscar(id);
+            if (esporte == null) {
+                return ResponseEntity.notFound().build();
+            }
+
+            // PROBLEMA: Validação manual repetitiva (mesma de criarEsporte)
+            if (dados.getNome() == null || dados.getNome().trim().isEmpty()) {
+                return ResponseEntity.badRequest()
+                    .body("Erro: Nome do esporte é obrigatório");
+            }
+
+            if (dados.getCategoria() == null || dados.getCategoria().trim().isEmpty()) {
+                return ResponseEntity.badRequest()
+                    .body("Erro: Categoria do esporte é obrigatória");
+            }
+
+            String nomeAnterior = normalizarNome(esporte.getNome());
+            String nomeNovo = normalizarNome(dados.getNome());
+            if (!nomeNovo.equals(nomeAnterior)) {
+                if (esportesPorNome.putIfAbsent(nomeNovo, id) != null) {
+                    return ResponseEntity.badRequest()
+                        .body("Erro: Já existe um esporte com este nome");
+                }
+                esportesPorNome.remove(nomeAnterior, id);
+            }
+
+            long codigoNovo = codificarCategoria(dados.getCategoria()).getId();
+            long codigoAnterior;
+            // Alteração e registro no diário juntos: atualizações simultâneas do mesmo
+            // esporte chegam ao diário na mesma ordem em que foram aplicadas
+            synchronized (esporte) {
+                codigoAnterior = esporte.getCodigoCategoria();
+                esporte.setNome(dados.getNome());
+                esporte.setCategoria(dados.getCategoria());
+                esporte.setCodigoCategoria(codigoNovo);
+                registrarNoDiario(esporte);
+            }
+
+            if (codigoAnterior != codigoNovo) {
+                reindexarCategoriaEsporte(esporte);
+            }
+
+            return ResponseEntity.ok(esporte);
+
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body("Erro interno: " + e.getMessage());
+        }
     }
 
     // ========================================================================
@@ -160,7 +475,7 @@ public class SistemaEsportivoController {
             }
 
             // PROBLEMA: Validação de relacionamento no controller
-            if (conteudo.getEsporteId() == null || !esportes.containsKey(conteudo.getEsporteId())) {
+            if (conteudo.getEsporteId() == null || !esportes.contem(conteudo.getEsporteId())) {
                 return ResponseEntity.badRequest()
                     .body("Erro: Esporte não encontrado");
             }
@@ -171,8 +486,10 @@ public class SistemaEsportivoController {
                     .body("Erro: Nível deve ser 'Fundamental II' ou 'Médio'");
             }
 
-            conteudo.setId(conteudoIdCounter++);
-            conteudos.put(conteudo.getId(), conteudo);
+            conteudo.setId(conteudos.reservarId());
+            conteudos.salvar(conteudo.getId(), conteudo);
+            indexarConteudo(conteudo);
+            registrarNoDiario(conteudo);
 
             return ResponseEntity.status(HttpStatus.CREATED).body(conteudo);
 
@@ -183,21 +500,36 @@ public class SistemaEsportivoController {
     }
 
     /**
-     * GET /api/conteudos/esporte/{esporteId} - Lista conteúdos de um esporte
+     * GET /api/conteudos/esporte/{esporteId}?pagina={pagina}&tamanho={tamanho}
+     * Lista conteúdos de um esporte, ordenados por ID, com paginação opcional
      *
      * PROBLEMA: Lógica de filtro no controller
      */
     @GetMapping("/conteudos/esporte/{esporteId}")
-    public ResponseEntity<?> listarConteudosPorEsporte(@PathVariable Long esporteId) {
+    public ResponseEntity<?> listarConteudosPorEsporte(@PathVariable Long esporteId,
+                                                       @RequestParam(required = false) Integer pagina,
+                                                       @RequestParam(required = false) Integer tamanho) {
         try {
             // PROBLEMA: Validação de existência no controller
-            if (!esportes.containsKey(esporteId)) {
+            if (!esportes.contem(esporteId)) {
                 return ResponseEntity.notFound().build();
             }
 
-            // PROBLEMA: Lógica de filtro implementada diretamente no controller
-            List<Conteudo> conteudosDoEsporte = conteudos.values().stream()
-                .filter(conteudo -> conteudo.getEsporteId().equals(esporteId))
+            if ((pagina != null && pagina < 0) || (tamanho != null && tamanho <= 0)) {
+                return ResponseEntity.badRequest()
+                    .body("Erro: Página deve ser >= 0 e tamanho deve ser maior que zero");
+            }
+
+            // Consulta pelo índice do esporte, sem percorrer o catálogo inteiro
+            Set<Long> idsConteudos = conteudosPorEsporte.getOrDefault(esporteId, Collections.emptyNavigableSet());
+            long ignorar = tamanho != null && pagina != null ? (long) pagina * tamanho : 0;
+            long limite = tamanho != null ? tamanho : Long.MAX_VALUE;
+
+            List<Conteudo> conteudosDoEsporte = idsConteudos.stream()
+                .skip(ignorar)
+                .limit(limite)
+                .map(conteudos::buscar)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
 
             return ResponseEntity.ok(conteudosDoEsporte);
@@ -208,6 +540,36 @@ public class SistemaEsportivoController {
         }
     }
 
+    /**
+     * DELETE /api/conteudos/{id} - Exclui um conteúdo que não esteja em uso por aulas
+     */
+    @DeleteMapping("/conteudos/{id}")
+    public ResponseEntity<?> excluirConteudo(@PathVariable Long id) {
+        try {
+            if (!conteudos.contem(id)) {
+                return ResponseEntity.notFound().build();
+            }
+
+            // Consulta O(1) no índice reverso conteúdo -> aulas
+            if (!aulasPorConteudo.getOrDefault(id, Collections.emptySet()).isEmpty()) {
+                return ResponseEntity.badRequest()
+                    .body("Erro: Conteúdo está vinculado a aulas e não pode ser excluído");
+            }
+
+            Conteudo conteudo = conteudos.remover(id);
+            if (conteudo != null) {
+                desindexarConteudo(conteudo);
+                registrarRemocaoNoDiario(CodecCatalogo.TIPO_CONTEUDO, id);
+            }
+
+            return ResponseEntity.noContent().build();
+
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body("Erro interno: " + e.getMessage());
+        }
+    }
+
     // ========================================================================
     // ENDPOINTS PARA PROFESSORES
     // ========================================================================
@@ -229,8 +591,17 @@ public class SistemaEsportivoController {
                     .body("Erro: Especialização do professor é obrigatória");
             }
 
-            professor.setId(professorIdCounter++);
-            professores.put(professor.getId(), professor);
+            professor.setId(professores.reservarId());
+            professores.salvar(professor.getId(), professor);
+            indexarProfessor(professor);
+            try {
+                registrarNoDiario(professor);
+            } catch (RuntimeException e) {
+                // Como em criarEsporte: sem o registro no diário, o professor não sobreviveria a um reinício
+                professores.remover(professor.getId());
+                desindexarProfessor(professor);
+                throw e;
+            }
 
             return ResponseEntity.status(HttpStatus.CREATED).body(professor);
 
@@ -241,14 +612,70 @@ public class SistemaEsportivoController {
     }
 
     /**
-     * GET /api/professores/especializacao/{especializacao} - Lista professores por especialização
+     * GET /api/professores - Lista todos os professores
+     * Devolve a visão somente leitura do armazenamento, sem copiar os professores a cada requisição
+     */
+    @GetMapping("/professores")
+    public ResponseEntity<Collection<Professor>> listarProfessores() {
+        return ResponseEntity.ok(professores.valores());
+    }
+
+    /**
+     * GET /api/professores/especializacao/{especializacao}?pagina={pagina}&tamanho={tamanho}
+     * Lista professores por especialização (ignorando acentos e caixa), ordenados por ID,
+     * com paginação opcional
      *
      * PROBLEMA: Lógica de filtro no controller
      */
-    @GetMapping("/professores")
-    public ResponseEntity<List<Professor>> listarProfessoresPorEspecializacao() {
-        // PROBLEMA: Lógica de filtro implementada diretamente no controller
-        return ResponseEntity.ok(new ArrayList<>(professores.values()));
+    @GetMapping("/professores/especializacao/{especializacao}")
+    public ResponseEntity<?> listarProfessoresPorEspecializacao(@PathVariable String especializacao,
+                                                                @RequestParam(required = false) Integer pagina,
+                                                                @RequestParam(required = false) Integer tamanho) {
+        if ((pagina != null && pagina < 0) || (tamanho != null && tamanho <= 0)) {
+            return ResponseEntity.badRequest()
+                .body("Erro: Página deve ser >= 0 e tamanho deve ser maior que zero");
+        }
+
+        // Consulta pelo índice de especializações, sem percorrer todos os professores
+        Set<Long> idsProfessores = professoresPorEspecializacao.getOrDefault(
+            normalizarNome(especializacao), Collections.emptyNavigableSet());
+        long ignorar = tamanho != null && pagina != null ? (long) pagina * tamanho : 0;
+        long limite = tamanho != null ? tamanho : Long.MAX_VALUE;
+
+        List<Professor> encontrados = idsProfessores.stream()
+            .skip(ignorar)
+            .limit(limite)
+            .map(professores::buscar)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+
+        return ResponseEntity.ok(encontrados);
+    }
+
+    /**
+     * GET /api/professores/{id}/agenda?from={data}&to={data} - Aulas do professor que
+     * ocupam algum horário entre as duas datas (inclusive), em ordem de início; as aulas
+     * sem horário entram no período que inclui a sua data
+     *
+     * Consulta de intervalo na agenda do professor: O(log n + aulas no período)
+     */
+    @GetMapping("/professores/{id}/agenda")
+    public ResponseEntity<?> consultarAgendaDoProfessor(
+            @PathVariable Long id,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate de,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate ate) {
+        if (!professores.contem(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        if (ate.isBefore(de)) {
+            return ResponseEntity.badRequest()
+                .body("Erro: Data final deve ser igual ou posterior à inicial");
+        }
+        AgendaProfessor agenda = agendasPorProfessor.get(id);
+        if (agenda == null) {
+            return ResponseEntity.ok(Collections.emptyList());
+        }
+        return ResponseEntity.ok(agenda.entre(AgendaProfessor.inicioDoDia(de), AgendaProfessor.inicioDoDia(ate.plusDays(1))));
     }
 
     // ========================================================================
@@ -263,40 +690,121 @@ public class SistemaEsportivoController {
     @PostMapping("/aulas")
     public ResponseEntity<?> criarAula(@RequestBody Aula aula) {
         try {
-            // PROBLEMA: Validações complexas no controller
-            if (aula.getData() == null) {
+            String erro = validarAula(aula);
+            if (erro != null) {
                 return ResponseEntity.badRequest()
-                    .body("Erro: Data da aula é obrigatória");
+                    .body("Erro: " + erro);
             }
 
-            if (aula.getDuracao() == null || aula.getDuracao() <= 0) {
-                return ResponseEntity.badRequest()
-                    .body("Erro: Duração deve ser maior que zero");
-            }
+            // ID gerado antes da reserva: quem esbarrar nesta aula antes de ela ser gravada
+            // recebe o ID real no erro de conflito
+            aula.setId(aulas.reservarId());
 
-            if (aula.getProfessorId() == null || !professores.containsKey(aula.getProfessorId())) {
-                return ResponseEntity.badRequest()
-                    .body("Erro: Professor não encontrado");
+            // Verificação e reserva do horário atômicas na agenda do professor
+            Aula conflito = agendaDe(aula.getProfessorId()).reservar(aula);
+            if (conflito != null) {
+                return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body("Erro: " + descreverConflito(conflito));
             }
 
-            // PROBLEMA: Validação complexa de relacionamentos no controller
-            if (aula.getConteudos() == null || aula.getConteudos().isEmpty()) {
-                return ResponseEntity.badRequest()
-                    .body("Erro: Aula deve ter pelo menos um conteúdo");
+            aulas.salvar(aula.getId(), aula);
+            indexarAula(aula);
+            registrarNoDiario(aula);
+
+            return ResponseEntity.status(HttpStatus.CREATED).body(aula);
+
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body("Erro interno: " + e.getMessage());
+        }
+    }
+
+    /**
+     * POST /api/aulas/batch - Cria várias aulas de uma vez (planejamento de um período)
+     *
+     * Os professores e conteúdos citados no lote são conferidos uma única vez, e as aulas
+     * são validadas em paralelo (parallel stream) contra essa mesma visão. As válidas
+     * recebem IDs de uma única faixa reservada antes dos horários, então um choque com
+     * outro item ou com outro lote ainda em gravação cita o ID real (os IDs dos itens
+     * recusados por choque ficam sem uso). O lote vai para o diário em um só registro, e a
+     * recuperação reaplica todas as aulas ou nenhuma; elas só entram nos armazenamentos e
+     * índices depois do registro gravado, e uma falha na gravação libera os horários.
+     * Como no endpoint individual, itens sem horário não são verificados quanto a choques.
+     * O resultado traz, para cada item e na ordem recebida, o ID criado ou o erro.
+     *
+     * PROBLEMA: Mesmas validações do endpoint individual, agora também em lote no controller
+     */
+    @PostMapping("/aulas/batch")
+    public ResponseEntity<?> criarAulasEmLote(@RequestBody List<Aula> itens) {
+        if (itens.size() > MAXIMO_AULAS_POR_LOTE) {
+            return ResponseEntity.badRequest()
+                .body("Erro: Máximo de " + MAXIMO_AULAS_POR_LOTE + " aulas por lote");
+        }
+        try {
+            Set<Long> professoresExistentes = new HashSet<>();
+            Set<Long> conteudosExistentes = new HashSet<>();
+            for (Aula aula : itens) {
+                if (aula != null) {
+                    conferirReferencias(aula, professoresExistentes, conteudosExistentes);
+                }
+            }
+            String[] erros = IntStream.range(0, itens.size())
+                .parallel()
+                .mapToObj(i -> validarAulaDoLote(itens.get(i), professoresExistentes, conteudosExistentes))
+                .toArray(String[]::new);
+
+            // Horários reservados em sequência, para detectar também choques entre itens do lote
+            long proximoId = aulas.reservarIds((int) Arrays.stream(erros).filter(Objects::isNull).count());
+            List<Aula> validas = new ArrayList<>(itens.size());
+            for (int i = 0; i < itens.size(); i++) {
+                if (erros[i] == null) {
+                    Aula aula = itens.get(i);
+                    aula.setId(proximoId++);
+                    Aula conflito = agendaDe(aula.getProfessorId()).reservar(aula);
+                    if (conflito != null) {
+                        erros[i] = descreverConflito(conflito);
+                        aula.setId(null);
+                    } else {
+                        validas.add(aula);
+                    }
+                }
             }
 
-            // PROBLEMA: Lógica de negócio - verificar se todos os conteúdos existem
-            for (Long conteudoId : aula.getConteudos()) {
-                if (!conteudos.containsKey(conteudoId)) {
-                    return ResponseEntity.badRequest()
-                        .body("Erro: Conteúdo com ID " + conteudoId + " não encontrado");
+            travaPublicacao.readLock().lock();
+            try {
+                try {
+                    registrarLoteNoDiario(validas);
+                } catch (RuntimeException e) {
+                    for (Aula aula : validas) {
+                        agendaDe(aula.getProfessorId()).liberar(aula);
+                    }
+                    throw e;
                 }
+                for (Aula aula : validas) {
+                    aulas.salvar(aula.getId(), aula);
+                    indexarAula(aula);
+                }
+            } finally {
+                travaPublicacao.readLock().unlock();
             }
 
-            aula.setId(aulaIdCounter++);
-            aulas.put(aula.getId(), aula);
+            List<Map<String, Object>> resultados = new ArrayList<>(itens.size());
+            for (int i = 0; i < itens.size(); i++) {
+                Map<String, Object> resultado = new LinkedHashMap<>(2);
+                resultado.put("indice", i);
+                if (erros[i] == null) {
+                    resultado.put("id", itens.get(i).getId());
+                } else {
+                    resultado.put("erro", erros[i]);
+                }
+                resultados.add(resultado);
+            }
 
-            return ResponseEntity.status(HttpStatus.CREATED).body(aula);
+            Map<String, Object> resumo = new LinkedHashMap<>();
+            resumo.put("criadas", validas.size());
+            resumo.put("rejeitadas", itens.size() - validas.size());
+            resumo.put("resultados", resultados);
+            return ResponseEntity.ok(resumo);
 
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -304,6 +812,59 @@ public class SistemaEsportivoController {
         }
     }
 
+    /**
+     * GET /api/aulas?de={data}&ate={data}&categoria={categoria} - Aulas em ordem de data
+     * (e de ID no mesmo dia); todos os parâmetros são opcionais e as datas são inclusivas
+     *
+     * O período é resolvido no índice por data (O(log n + k)); a categoria, quando
+     * informada, é conferida na visão materializada de cada aula do período.
+     * PROBLEMA: Lógica de consulta no controller
+     */
+    @GetMapping("/aulas")
+    public ResponseEntity<?> listarAulasPorPeriodo(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate de,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate ate,
+            @RequestParam(required = false) String categoria) {
+        if (de != null && ate != null && ate.isBefore(de)) {
+            return ResponseEntity.badRequest()
+                .body("Erro: Data final deve ser igual ou posterior à inicial");
+        }
+
+        Long codigo = null;
+        if (categoria != null) {
+            Categoria encontrada = categoriasPorNome.get(normalizarCategoria(categoria));
+            if (encontrada == null) {
+                return ResponseEntity.ok(Collections.emptyList());
+            }
+            codigo = encontrada.getId();
+        }
+
+        NavigableMap<Long, Set<Long>> dias = aulasPorData;
+        if (de != null) {
+            dias = dias.tailMap(de.toEpochDay(), true);
+        }
+        if (ate != null) {
+            dias = dias.headMap(ate.toEpochDay(), true);
+        }
+
+        List<Aula> encontradas = new ArrayList<>();
+        for (Set<Long> idsDoDia : dias.values()) {
+            for (Long aulaId : idsDoDia) {
+                if (codigo != null) {
+                    long[] codigos = categoriasPorAula.get(aulaId);
+                    if (codigos == null || Arrays.binarySearch(codigos, codigo) < 0) {
+                        continue;
+                    }
+                }
+                Aula aula = aulas.buscar(aulaId);
+                if (aula != null) {
+                    encontradas.add(aula);
+                }
+            }
+        }
+        return ResponseEntity.ok(encontradas);
+    }
+
     /**
      * GET /api/aulas/filtrar?categoria={categoria} - Filtra aulas por categoria do esporte
      *
@@ -311,36 +872,606 @@ public class SistemaEsportivoController {
      */
     @GetMapping("/aulas/filtrar")
     public ResponseEntity<List<Aula>> filtrarAulasPorCategoria(@RequestParam String categoria) {
-        // PROBLEMA: Lógica de negócio complexa implementada diretamente no controller
-        // Esta consulta requer:
-        // 1. Buscar aulas
-        // 2. Para cada aula, buscar seus conteúdos
-        // 3. Para cada conteúdo, buscar o esporte
-        // 4. Verificar se a categoria do esporte corresponde ao filtro
-
-        List<Aula> aulasMatched = new ArrayList<>();
-
-        for (Aula aula : aulas.values()) {
-            boolean aulaCorrespondeCategoria = false;
-
-            // Para cada conteúdo da aula
-            for (Long conteudoId : aula.getConteudos()) {
-                Conteudo conteudo = conteudos.get(conteudoId);
-                if (conteudo != null) {
-                    Esporte esporte = esportes.get(conteudo.getEsporteId());
-                    if (esporte != null && esporte.getCategoria().equalsIgnoreCase(categoria)) {
-                        aulaCorrespondeCategoria = true;
-                        break;
+        // A consulta usa o índice invertido mantido na escrita, em vez de percorrer
+        // aulas -> conteúdos -> esportes a cada requisição.
+        // Categoria fora do dicionário não tem aulas (e não é criada por uma consulta)
+        Categoria encontrada = categoriasPorNome.get(normalizarCategoria(categoria));
+        Set<Long> idsAulas = encontrada != null
+            ? aulasPorCategoria.getOrDefault(encontrada.getId(), Collections.emptySet())
+            : Collections.emptySet();
+
+        List<Aula> aulasMatched = new ArrayList<>(idsAulas.size());
+        for (Long aulaId : idsAulas) {
+            Aula aula = aulas.buscar(aulaId);
+            if (aula != null) {
+                aulasMatched.add(aula);
+            }
+        }
+
+        return ResponseEntity.ok(aulasMatched);
+    }
+
+    /**
+     * GET /api/aulas/{id}/categorias - Categorias dos conteúdos de uma aula
+     * Consulta direta à visão materializada, sem percorrer conteúdos e esportes;
+     * os códigos só são traduzidos para nomes na resposta
+     */
+    @GetMapping("/aulas/{id}/categorias")
+    public ResponseEntity<Set<String>> listarCategoriasDaAula(@PathVariable Long id) {
+        long[] codigos = categoriasPorAula.get(id);
+        if (codigos == null) {
+            return ResponseEntity.notFound().build();
+        }
+        Set<String> nomes = new TreeSet<>();
+        for (long codigo : codigos) {
+            nomes.add(nomeDaCategoria(codigo));
+        }
+        return ResponseEntity.ok(nomes);
+    }
+
+    /**
+     * GET /api/relatorios/aulas-por-categoria - Quantidade de aulas por categoria
+     *
+     * PROBLEMA: Relatório implementado no controller
+     */
+    @GetMapping("/relatorios/aulas-por-categoria")
+    public ResponseEntity<Map<String, Integer>> relatorioAulasPorCategoria() {
+        // Agrupamento já feito por código no índice; nomes resolvidos apenas na saída
+        Map<String, Integer> relatorio = new TreeMap<>();
+        aulasPorCategoria.forEach((codigo, idsAulas) -> {
+            int quantidade = idsAulas.size();
+            if (quantidade > 0) {
+                relatorio.put(nomeDaCategoria(codigo), quantidade);
+            }
+        });
+        return ResponseEntity.ok(relatorio);
+    }
+
+    // ========================================================================
+    // ENDPOINTS PARA CATEGORIAS
+    // ========================================================================
+
+    /**
+     * GET /api/categorias - Dicionário de categorias (código = ID da categoria)
+     */
+    @GetMapping("/categorias")
+    public ResponseEntity<List<Categoria>> listarCategorias() {
+        List<Categoria> lista = new ArrayList<>(categorias.valores());
+        lista.sort(Comparator.comparing(Categoria::getId));
+        return ResponseEntity.ok(lista);
+    }
+
+    // ========================================================================
+    // ENDPOINTS DE EXPORTAÇÃO/IMPORTAÇÃO DO CATÁLOGO (NDJSON)
+    // ========================================================================
+
+    /**
+     * GET /api/export - Exporta todo o catálogo como NDJSON, um registro por linha:
+     * {"tipo":"esporte|conteudo|professor|aula","dados":{...}}
+     *
+     * Os registros são escritos conforme percorridos, sem montar a resposta em memória,
+     * e na ordem esportes -> conteúdos -> professores -> aulas, para que a importação
+     * sempre encontre as referências já carregadas.
+     */
+    @GetMapping(value = "/export", produces = MEDIA_TYPE_NDJSON)
+    public ResponseEntity<StreamingResponseBody> exportarCatalogo() {
+        ObjectWriter escritor = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        StreamingResponseBody corpo = saida -> {
+            exportarRegistros(saida, escritor, TIPO_ESPORTE, esportes.valores());
+            exportarRegistros(saida, escritor, TIPO_CONTEUDO, conteudos.valores());
+            exportarRegistros(saida, escritor, TIPO_PROFESSOR, professores.valores());
+            exportarRegistros(saida, escritor, TIPO_AULA, aulas.valores());
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(MEDIA_TYPE_NDJSON)).body(corpo);
+    }
+
+    /**
+     * POST /api/import - Importa um catálogo NDJSON no formato de /api/export
+     *
+     * Lê e aplica uma linha por vez (memória limitada), preservando os IDs originais.
+     * Linhas inválidas, com ID já existente ou com referências inexistentes são rejeitadas
+     * individualmente; as demais são importadas e indexadas.
+     */
+    @PostMapping(value = "/import", consumes = MEDIA_TYPE_NDJSON)
+    public ResponseEntity<?> importarCatalogo(HttpServletRequest request) {
+        long importados = 0;
+        long rejeitados = 0;
+        long linha = 0;
+        List<String> erros = new ArrayList<>();
+
+        try (MappingIterator<JsonNode> registros = objectMapper.readerFor(JsonNode.class)
+                .readValues(request.getInputStream())) {
+            // hasNextValue/nextValue lançam IOException em JSON malformado; hasNext/next
+            // a embrulhariam numa exceção não verificada, que escaparia como erro 500
+            while (registros.hasNextValue()) {
+                JsonNode registro = registros.nextValue();
+                linha++;
+                String erro;
+                try {
+                    erro = importarRegistro(registro);
+                } catch (RuntimeException | JsonProcessingException e) {
+                    erro = "registro inválido (" + e.getMessage() + ")";
+                }
+
+                if (erro == null) {
+                    importados++;
+                } else {
+                    rejeitados++;
+                    if (erros.size() < MAXIMO_ERROS_IMPORTACAO) {
+                        erros.add("Linha " + linha + ": " + erro);
                     }
                 }
             }
+        } catch (IOException e) {
+            return ResponseEntity.badRequest()
+                .body("Erro: NDJSON inválido na linha " + (linha + 1) + ": " + e.getMessage());
+        }
 
-            if (aulaCorrespondeCategoria) {
-                aulasMatched.add(aula);
+        Map<String, Object> resumo = new LinkedHashMap<>();
+        resumo.put("importados", importados);
+        resumo.put("rejeitados", rejeitados);
+        resumo.put("erros", erros);
+        return ResponseEntity.ok(resumo);
+    }
+
+    private void exportarRegistros(OutputStream saida, ObjectWriter escritor,
+                                   String tipo, Collection<?> entidades) throws IOException {
+        for (Object entidade : entidades) {
+            Map<String, Object> registro = new LinkedHashMap<>(2);
+            registro.put("tipo", tipo);
+            registro.put("dados", entidade);
+            saida.write(escritor.writeValueAsBytes(registro));
+            saida.write('\n');
+        }
+    }
+
+    /**
+     * PROBLEMA: Mesmas validações dos endpoints de criação, duplicadas aqui
+     * @return Mensagem de erro, ou null se o registro foi importado
+     */
+    private String importarRegistro(JsonNode registro) throws JsonProcessingException {
+        String tipo = registro.path("tipo").asText();
+        JsonNode dados = registro.path("dados");
+
+        switch (tipo) {
+            case TIPO_ESPORTE: {
+                Esporte esporte = objectMapper.treeToValue(dados, Esporte.class);
+                if (esporte.getId() == null || esporte.getNome() == null || esporte.getCategoria() == null) {
+                    return "esporte sem id, nome ou categoria";
+                }
+                if (esportesPorNome.putIfAbsent(normalizarNome(esporte.getNome()), esporte.getId()) != null) {
+                    return "já existe um esporte com o nome " + esporte.getNome();
+                }
+                // O código recebido é descartado: códigos são locais a cada instância
+                esporte.setCodigoCategoria(codificarCategoria(esporte.getCategoria()).getId());
+                if (!esportes.salvarComId(esporte.getId(), esporte)) {
+                    esportesPorNome.remove(normalizarNome(esporte.getNome()), esporte.getId());
+                    return "esporte com ID " + esporte.getId() + " já existe";
+                }
+                registrarNoDiario(esporte);
+                return null;
+            }
+            case TIPO_CONTEUDO: {
+                Conteudo conteudo = objectMapper.treeToValue(dados, Conteudo.class);
+                if (conteudo.getId() == null || !esportes.contem(conteudo.getEsporteId())) {
+                    return "conteúdo sem id ou com esporte inexistente";
+                }
+                if (!conteudos.salvarComId(conteudo.getId(), conteudo)) {
+                    return "conteúdo com ID " + conteudo.getId() + " já existe";
+                }
+                indexarConteudo(conteudo);
+                registrarNoDiario(conteudo);
+                return null;
+            }
+            case TIPO_PROFESSOR: {
+                Professor professor = objectMapper.treeToValue(dados, Professor.class);
+                if (professor.getId() == null || professor.getNome() == null) {
+                    return "professor sem id ou nome";
+                }
+                if (!professores.salvarComId(professor.getId(), professor)) {
+                    return "professor com ID " + professor.getId() + " já existe";
+                }
+                indexarProfessor(professor);
+                registrarNoDiario(professor);
+                return null;
+            }
+            case TIPO_AULA: {
+                Aula aula = objectMapper.treeToValue(dados, Aula.class);
+                if (aula.getId() == null || aula.getConteudos() == null || aula.getConteudos().length == 0) {
+                    return "aula sem id ou conteúdos";
+                }
+                String referenciasAusentes = validarReferenciasDaAula(aula);
+                if (referenciasAusentes != null) {
+                    return "aula com " + referenciasAusentes.toLowerCase(Locale.ROOT);
+                }
+                Aula conflito = agendaDe(aula.getProfessorId()).reservar(aula);
+                if (conflito != null) {
+                    return "aula " + aula.getId() + " com " + descreverConflito(conflito).toLowerCase(Locale.ROOT);
+                }
+                if (!aulas.salvarComId(aula.getId(), aula)) {
+                    agendaDe(aula.getProfessorId()).liberar(aula);
+                    return "aula com ID " + aula.getId() + " já existe";
+                }
+                indexarAula(aula);
+                registrarNoDiario(aula);
+                return null;
             }
+            default:
+                return "tipo de registro desconhecido: '" + tipo + "'";
         }
+    }
 
-        return ResponseEntity.ok(aulasMatched);
+    // ========================================================================
+    // DIÁRIO DE MUTAÇÕES E RECUPERAÇÃO
+    // ========================================================================
+
+    /**
+     * Grava o estado atual da entidade no diário e aguarda o commit em grupo.
+     * Sem persistência configurada, não faz nada. Se a gravação falhar, a exceção chega
+     * à requisição, mas a alteração já feita nos armazenamentos não é desfeita: ela some
+     * apenas no próximo reinício (ver DiarioMutacoes).
+     */
+    private void registrarNoDiario(Object entidade) {
+        if (diario != null) {
+            diario.registrarSalvar(entidade).join();
+        }
+    }
+
+    /**
+     * Grava as entidades no diário em um único registro (todas ou nenhuma na recuperação).
+     * Quem só as publica nos armazenamentos depois do registro deve segurar a trava de
+     * leitura de travaPublicacao entre as duas etapas: um snapshot iniciado depois do
+     * registro precisa enxergá-las, pois descarta o segmento anterior.
+     */
+    private void registrarLoteNoDiario(List<?> entidades) {
+        if (diario != null && !entidades.isEmpty()) {
+            diario.registrarSalvarTodos(entidades).join();
+        }
+    }
+
+    private void registrarRemocaoNoDiario(byte tipo, Long id) {
+        if (diario != null) {
+            diario.registrarRemocao(tipo, id).join();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void restaurarEntidade(Object entidade) {
+        ArmazenamentoConcorrente<Object> armazenamento =
+            (ArmazenamentoConcorrente<Object>) armazenamentosPorTipo.get(CodecCatalogo.tipoDe(entidade));
+        armazenamento.restaurar(CodecCatalogo.idDe(entidade), entidade);
+    }
+
+    /**
+     * Recria todos os índices a partir dos armazenamentos (após a recuperação do disco)
+     */
+    private void reconstruirIndices() {
+        esportesPorNome.clear();
+        categoriasPorNome.clear();
+        conteudosPorEsporte.clear();
+        aulasPorConteudo.clear();
+        aulasPorCategoria.clear();
+        categoriasPorAula.clear();
+        agendasPorProfessor.clear();
+        aulasPorData.clear();
+        professoresPorEspecializacao.clear();
+
+        for (Categoria categoria : categorias.valores()) {
+            // Categorias antigas que só diferem por acentos ficam com o menor código
+            categoriasPorNome.merge(normalizarCategoria(categoria.getNome()), categoria,
+                (atual, outra) -> atual.getId() <= outra.getId() ? atual : outra);
+        }
+        // O código não é gravado junto com o esporte; é resolvido de novo pelo dicionário
+        // recuperado (categorias ausentes, de dados anteriores ao dicionário, são criadas)
+        for (Esporte esporte : esportes.valores()) {
+            esportesPorNome.put(normalizarNome(esporte.getNome()), esporte.getId());
+            esporte.setCodigoCategoria(codificarCategoria(esporte.getCategoria()).getId());
+        }
+        for (Conteudo conteudo : conteudos.valores()) {
+            indexarConteudo(conteudo);
+        }
+        for (Professor professor : professores.valores()) {
+            indexarProfessor(professor);
+        }
+        for (Aula aula : aulas.valores()) {
+            indexarAula(aula);
+            registrarNaAgenda(aula);
+        }
+    }
+
+    // ========================================================================
+    // MANUTENÇÃO DOS ÍNDICES
+    // ========================================================================
+
+    /**
+     * Normaliza a categoria para uso como chave do dicionário, com as mesmas regras do
+     * nome do esporte ("Aquático" == "aquatico"), como o dicionário da versão SOLID.
+     * Categorias gravadas antes que só diferem por acentos passam a ter a mesma chave,
+     * que fica com a de menor código ao reconstruir os índices.
+     */
+    private static String normalizarCategoria(String categoria) {
+        return normalizarNome(categoria);
+    }
+
+    /**
+     * Devolve a Categoria do dicionário para o texto informado, criando-a (com um novo
+     * código) na primeira vez em que aparece. A reserva via putIfAbsent garante um único
+     * código por categoria mesmo com requisições simultâneas; só a vencedora é gravada.
+     */
+    private Categoria codificarCategoria(String nome) {
+        String chave = normalizarCategoria(nome);
+        Categoria existente = categoriasPorNome.get(chave);
+        if (existente != null) {
+            return existente;
+        }
+
+        Categoria nova = new Categoria(categorias.reservarId(), nome.trim());
+        existente = categoriasPorNome.putIfAbsent(chave, nova);
+        if (existente != null) {
+            return existente;
+        }
+        categorias.salvar(nova.getId(), nova);
+        registrarNoDiario(nova);
+        return nova;
+    }
+
+    /**
+     * @return Nome de exibição da categoria com o código informado
+     */
+    private String nomeDaCategoria(long codigo) {
+        Categoria categoria = categorias.buscar(codigo);
+        return categoria != null ? categoria.getNome() : String.valueOf(codigo);
+    }
+
+    /**
+     * Normaliza o nome do esporte (índice de unicidade) e a especialização do professor:
+     * remove acentos, espaços nas bordas e diferenças de caixa ("Vôlei" == "volei")
+     */
+    private static String normalizarNome(String nome) {
+        String decomposto = Normalizer.normalize(nome.trim(), Normalizer.Form.NFD);
+        return MARCAS_DIACRITICAS.matcher(decomposto).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Registra um professor no índice por especialização
+     */
+    private void indexarProfessor(Professor professor) {
+        if (professor.getEspecializacao() != null) {
+            professoresPorEspecializacao
+                .computeIfAbsent(normalizarNome(professor.getEspecializacao()), k -> new ConcurrentSkipListSet<>())
+                .add(professor.getId());
+        }
+    }
+
+    /**
+     * Retira um professor do índice por especialização
+     */
+    private void desindexarProfessor(Professor professor) {
+        if (professor.getEspecializacao() != null) {
+            Set<Long> ids = professoresPorEspecializacao.get(normalizarNome(professor.getEspecializacao()));
+            if (ids != null) {
+                ids.remove(professor.getId());
+            }
+        }
+    }
+
+    /**
+     * PROBLEMA: Validações complexas no controller
+     * @return Mensagem de erro, ou null se a aula pode ser criada
+     */
+    private String validarAula(Aula aula) {
+        String erro = validarCamposDaAula(aula);
+        if (erro != null) {
+            return erro;
+        }
+        // Professor e conteúdos conferidos em lote; a mensagem lista todas as referências ausentes
+        return validarReferenciasDaAula(aula);
+    }
+
+    /**
+     * Validação de um item do lote contra as referências conferidas para o lote inteiro
+     * @return Mensagem de erro, ou null se a aula pode ser criada
+     */
+    private static String validarAulaDoLote(Aula aula, Set<Long> professoresExistentes, Set<Long> conteudosExistentes) {
+        if (aula == null) {
+            return "Aula inválida";
+        }
+        String erro = validarCamposDaAula(aula);
+        if (erro != null) {
+            return erro;
+        }
+        long[] conteudosAusentes = Arrays.stream(aula.getConteudos())
+            .filter(id -> !conteudosExistentes.contains(id))
+            .toArray();
+        return descreverReferenciasAusentes(!professoresExistentes.contains(aula.getProfessorId()), conteudosAusentes);
+    }
+
+    /**
+     * Acrescenta aos conjuntos o professor e os conteúdos da aula que existem nos armazenamentos
+     */
+    private void conferirReferencias(Aula aula, Set<Long> professoresExistentes, Set<Long> conteudosExistentes) {
+        if (professores.contem(aula.getProfessorId())) {
+            professoresExistentes.add(aula.getProfessorId());
+        }
+        if (aula.getConteudos() != null) {
+            for (long conteudoId : aula.getConteudos()) {
+                if (conteudos.contem(conteudoId)) {
+                    conteudosExistentes.add(conteudoId);
+                }
+            }
+        }
+    }
+
+    private static String validarCamposDaAula(Aula aula) {
+        if (aula.getData() == null) {
+            return "Data da aula é obrigatória";
+        }
+        if (aula.getDuracao() == null || aula.getDuracao() <= 0) {
+            return "Duração deve ser maior que zero";
+        }
+        if (aula.getConteudos() == null || aula.getConteudos().length == 0) {
+            return "Aula deve ter pelo menos um conteúdo";
+        }
+        return null;
+    }
+
+    /**
+     * Resolve de uma vez o professor e todos os conteúdos da aula (verificação em lote
+     * no armazenamento, em vez de uma consulta por ID que pararia no primeiro ausente)
+     * @return Descrição de todas as referências ausentes, ou null se todas existem
+     */
+    private String validarReferenciasDaAula(Aula aula) {
+        return descreverReferenciasAusentes(!professores.contem(aula.getProfessorId()),
+            conteudos.idsAusentes(aula.getConteudos()));
+    }
+
+    /**
+     * @return Descrição das referências ausentes, ou null se não há nenhuma
+     */
+    private static String descreverReferenciasAusentes(boolean professorAusente, long[] conteudosAusentes) {
+        if (!professorAusente && conteudosAusentes.length == 0) {
+            return null;
+        }
+        StringJoiner erros = new StringJoiner("; ");
+        if (professorAusente) {
+            erros.add("Professor não encontrado");
+        }
+        if (conteudosAusentes.length > 0) {
+            erros.add("Conteúdos não encontrados: " + Arrays.stream(conteudosAusentes)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(", ")));
+        }
+        return erros.toString();
+    }
+
+    private AgendaProfessor agendaDe(Long professorId) {
+        return agendasPorProfessor.computeIfAbsent(professorId, id -> new AgendaProfessor());
+    }
+
+    /**
+     * Inclui na agenda uma aula já gravada, sem verificar choques (dados recuperados)
+     */
+    private void registrarNaAgenda(Aula aula) {
+        if (aula.getProfessorId() != null && aula.getData() != null && aula.getDuracao() != null) {
+            agendaDe(aula.getProfessorId()).registrar(aula);
+        }
+    }
+
+    private static String descreverConflito(Aula conflito) {
+        return "Professor já possui a aula " + conflito.getId() + " nesse horário";
+    }
+
+    /**
+     * Registra um conteúdo recém-criado nos índices por esporte e conteúdo -> aulas
+     */
+    private void indexarConteudo(Conteudo conteudo) {
+        conteudosPorEsporte.computeIfAbsent(conteudo.getEsporteId(), k -> new ConcurrentSkipListSet<>())
+            .add(conteudo.getId());
+        aulasPorConteudo.put(conteudo.getId(), ConcurrentHashMap.newKeySet());
+    }
+
+    private void desindexarConteudo(Conteudo conteudo) {
+        Set<Long> idsDoEsporte = conteudosPorEsporte.get(conteudo.getEsporteId());
+        if (idsDoEsporte != null) {
+            idsDoEsporte.remove(conteudo.getId());
+        }
+        aulasPorConteudo.remove(conteudo.getId());
+    }
+
+    /**
+     * Registra uma aula recém-criada no grafo conteúdo -> aulas e materializa suas categorias
+     */
+    private void indexarAula(Aula aula) {
+        for (long conteudoId : aula.getConteudos()) {
+            aulasPorConteudo.computeIfAbsent(conteudoId, k -> ConcurrentHashMap.newKeySet()).add(aula.getId());
+        }
+        recalcularCategoriasDaAula(aula);
+        if (aula.getData() != null) {
+            aulasPorData.computeIfAbsent(aula.getData().toEpochDay(), k -> new ConcurrentSkipListSet<>()).add(aula.getId());
+        }
+    }
+
+    /**
+     * Propaga a mudança de categoria de um esporte. Pelo grafo de dependências,
+     * somente as aulas que usam conteúdos deste esporte são recalculadas.
+     * (Conteúdos não mudam de esporte e só podem ser excluídos sem aulas vinculadas,
+     * então mudanças de esporte são a única fonte de recálculo.)
+     */
+    private void reindexarCategoriaEsporte(Esporte esporte) {
+        Set<Long> aulasAfetadas = new HashSet<>();
+        for (Long conteudoId : conteudosPorEsporte.getOrDefault(esporte.getId(), Collections.emptyNavigableSet())) {
+            aulasAfetadas.addAll(aulasPorConteudo.getOrDefault(conteudoId, Collections.emptySet()));
+        }
+
+        for (Long aulaId : aulasAfetadas) {
+            Aula aula = aulas.buscar(aulaId);
+            if (aula != null) {
+                recalcularCategoriasDaAula(aula);
+            }
+        }
+    }
+
+    /**
+     * Recalcula as categorias de uma aula, substitui sua entrada na visão materializada
+     * e aplica apenas a diferença em relação ao conjunto anterior ao índice invertido.
+     * Sincronizado por aula: dois recálculos simultâneos da mesma aula (ex.: dois esportes
+     * alterados ao mesmo tempo) não podem intercalar suas diferenças.
+     */
+    private void recalcularCategoriasDaAula(Aula aula) {
+        synchronized (aula) {
+            aplicarCategoriasDaAula(aula);
+        }
+    }
+
+    private void aplicarCategoriasDaAula(Aula aula) {
+        long[] calculados = new long[aula.getConteudos().length];
+        int quantidade = 0;
+        for (long conteudoId : aula.getConteudos()) {
+            long codigo = categoriaDoConteudo(conteudoId);
+            if (codigo != SEM_CATEGORIA) {
+                calculados[quantidade++] = codigo;
+            }
+        }
+        // Poucas categorias por aula: vetor ordenado sem repetições, comparado por busca binária
+        Arrays.sort(calculados, 0, quantidade);
+        int distintos = 0;
+        for (int i = 0; i < quantidade; i++) {
+            if (distintos == 0 || calculados[distintos - 1] != calculados[i]) {
+                calculados[distintos++] = calculados[i];
+            }
+        }
+
+        long[] atuais = Arrays.copyOf(calculados, distintos);
+        long[] anteriores = categoriasPorAula.put(aula.getId(), atuais);
+        if (anteriores == null) {
+            anteriores = new long[0];
+        }
+
+        for (long codigo : anteriores) {
+            if (Arrays.binarySearch(atuais, codigo) < 0) {
+                Set<Long> idsAulas = aulasPorCategoria.get(codigo);
+                if (idsAulas != null) {
+                    idsAulas.remove(aula.getId());
+                }
+            }
+        }
+        for (long codigo : atuais) {
+            if (Arrays.binarySearch(anteriores, codigo) < 0) {
+                aulasPorCategoria.computeIfAbsent(codigo, k -> new ConcurrentSkipListSet<>()).add(aula.getId());
+            }
+        }
+    }
+
+    /**
+     * @return Código da categoria do esporte do conteúdo, ou SEM_CATEGORIA se não resolvida
+     */
+    private long categoriaDoConteudo(long conteudoId) {
+        Conteudo conteudo = conteudos.buscar(conteudoId);
+        if (conteudo == null) {
+            return SEM_CATEGORIA;
+        }
+        Esporte esporte = esportes.buscar(conteudo.getEsporteId());
+        return esporte != null && esporte.getCodigoCategoria() != null ? esporte.getCodigoCategoria() : SEM_CATEGORIA;
     }
 
     // ========================================================================
@@ -353,63 +1484,87 @@ public class SistemaEsportivoController {
      */
     private void inicializarDadosExemplo() {
         // Criando esportes de exemplo
-        Esporte volei = new Esporte(esporteIdCounter++, "Vôlei", "Coletivo");
-        Esporte basquete = new Esporte(esporteIdCounter++, "Basquete", "Coletivo");
-        Esporte natacao = new Esporte(esporteIdCounter++, "Natação", "Individual");
-
-        esportes.put(volei.getId(), volei);
-        esportes.put(basquete.getId(), basquete);
-        esportes.put(natacao.getId(), natacao);
+        Esporte volei = new Esporte(esportes.reservarId(), "Vôlei", "Coletivo");
+        Esporte basquete = new Esporte(esportes.reservarId(), "Basquete", "Coletivo");
+        Esporte natacao = new Esporte(esportes.reservarId(), "Natação", "Individual");
+        volei.setCodigoCategoria(codificarCategoria(volei.getCategoria()).getId());
+        basquete.setCodigoCategoria(codificarCategoria(basquete.getCategoria()).getId());
+        natacao.setCodigoCategoria(codificarCategoria(natacao.getCategoria()).getId());
+
+        esportes.salvar(volei.getId(), volei);
+        esportes.salvar(basquete.getId(), basquete);
+        esportes.salvar(natacao.getId(), natacao);
+        esportesPorNome.put(normalizarNome(volei.getNome()), volei.getId());
+        esportesPorNome.put(normalizarNome(basquete.getNome()), basquete.getId());
+        esportesPorNome.put(normalizarNome(natacao.getNome()), natacao.getId());
 
         // Criando professores de exemplo
-        Professor prof1 = new Professor(professorIdCounter++, "João Silva", "Esportes Coletivos");
-        Professor prof2 = new Professor(professorIdCounter++, "Maria Santos", "Esportes Aquáticos");
+        Professor prof1 = new Professor(professores.reservarId(), "João Silva", "Esportes Coletivos");
+        Professor prof2 = new Professor(professores.reservarId(), "Maria Santos", "Esportes Aquáticos");
 
-        professores.put(prof1.getId(), prof1);
-        professores.put(prof2.getId(), prof2);
+        professores.salvar(prof1.getId(), prof1);
+        professores.salvar(prof2.getId(), prof2);
+        indexarProfessor(prof1);
+        indexarProfessor(prof2);
 
         // Criando conteúdos de exemplo
-        Conteudo conteudo1 = new Conteudo(conteudoIdCounter++,
+        Conteudo conteudo1 = new Conteudo(conteudos.reservarId(),
             "Fundamentos do Vôlei",
             "https://example.com/volei-fundamentos.mp4",
             "Fundamental II",
             volei.getId());
 
-        Conteudo conteudo2 = new Conteudo(conteudoIdCounter++,
+        Conteudo conteudo2 = new Conteudo(conteudos.reservarId(),
             "Técnicas de Saque no Vôlei",
             "https://example.com/volei-saque.pdf",
             "Médio",
             volei.getId());
 
-        conteudos.put(conteudo1.getId(), conteudo1);
-        conteudos.put(conteudo2.getId(), conteudo2);
+        conteudos.salvar(conteudo1.getId(), conteudo1);
+        conteudos.salvar(conteudo2.getId(), conteudo2);
+        indexarConteudo(conteudo1);
+        indexarConteudo(conteudo2);
 
         // Criando aula de exemplo
-        Aula aula1 = new Aula(aulaIdCounter++,
+        Aula aula1 = new Aula(aulas.reservarId(),
             LocalDate.now().plusDays(1),
             90,
-            Arrays.asList(conteudo1.getId(), conteudo2.getId()),
+            new long[] {conteudo1.getId(), conteudo2.getId()},
             prof1.getId());
 
-        aulas.put(aula1.getId(), aula1);
+        aulas.salvar(aula1.getId(), aula1);
+        indexarAula(aula1);
+        registrarNaAgenda(aula1);
     }
 
     // ========================================================================
-    // ENDPOINTS ADICIONAIS PARA DEMONSTRAR OS PROBLEMAS
+    // MÉTRICAS (MICROMETER)
     // ========================================================================
 
     /**
-     * GET /api/debug/status - Endpoint para debug (PROBLEMA: responsabilidade inadequada)
+     * Gauges do catálogo em memória, publicados em /actuator/metrics e /actuator/prometheus.
+     * Lidos sob demanda na coleta, sem custo nas requisições.
+     * A latência de cada endpoint já é medida em http.server.requests.
+     *
+     * PROBLEMA: Instrumentação registrada pelo próprio controller, que conhece os armazenamentos
      */
-    @GetMapping("/debug/status")
-    public ResponseEntity<Map<String, Object>> getStatus() {
-        Map<String, Object> status = new HashMap<>();
-        status.put("totalEsportes", esportes.size());
-        status.put("totalConteudos", conteudos.size());
-        status.put("totalProfessores", professores.size());
-        status.put("totalAulas", aulas.size());
-        status.put("ultimoEsporteId", esporteIdCounter - 1);
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        registrarGauges(registry, "esporte", esportes);
+        registrarGauges(registry, "conteudo", conteudos);
+        registrarGauges(registry, "professor", professores);
+        registrarGauges(registry, "categoria", categorias);
+        registrarGauges(registry, "aula", aulas);
+    }
 
-        return ResponseEntity.ok(status);
+    private static void registrarGauges(MeterRegistry registry, String tipo, ArmazenamentoConcorrente<?> armazenamento) {
+        Gauge.builder("catalogo.entidades", armazenamento, ArmazenamentoConcorrente::tamanho)
+            .description("Quantidade de entidades armazenadas")
+            .tag("tipo", tipo)
+            .register(registry);
+        Gauge.builder("catalogo.ultimo.id", armazenamento, ArmazenamentoConcorrente::ultimoIdReservado)
+            .description("Último ID reservado pelo gerador do armazenamento")
+            .tag("tipo", tipo)
+            .register(registry);
     }
 }
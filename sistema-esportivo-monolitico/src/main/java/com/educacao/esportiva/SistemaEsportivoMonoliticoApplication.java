@@ -13,7 +13,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * 
  * CARACTERÍSTICAS DESTA VERSÃO:
  * - Uma única classe controller gerencia tudo
- * - Persistência em memória (HashMap)
+ * - Persistência em memória (ArmazenamentoConcorrente)
  * - Violação de princípios SOLID
  * - Código difícil de manter e testar
  * 
@@ -44,12 +44,23 @@ public class SistemaEsportivoMonoliticoApplication {
         System.out.println("📚 Endpoints disponíveis:");
         System.out.println("   POST /api/esportes");
         System.out.println("   GET  /api/esportes");
+        System.out.println("   PUT  /api/esportes/{id}");
+        System.out.println("   GET  /api/categorias");
         System.out.println("   POST /api/conteudos");
-        System.out.println("   GET  /api/conteudos/esporte/{id}");
+        System.out.println("   GET  /api/conteudos/esporte/{id}?pagina=&tamanho=");
+        System.out.println("   DELETE /api/conteudos/{id}");
         System.out.println("   POST /api/professores");
-        System.out.println("   GET  /api/professores/especializacao/{especializacao}");
+        System.out.println("   GET  /api/professores");
+        System.out.println("   GET  /api/professores/especializacao/{especializacao}?pagina=&tamanho=");
+        System.out.println("   GET  /api/professores/{id}/agenda?from=&to=");
         System.out.println("   POST /api/aulas");
+        System.out.println("   POST /api/aulas/batch");
+        System.out.println("   GET  /api/aulas?de=&ate=&categoria=");
         System.out.println("   GET  /api/aulas/filtrar?categoria={categoria}");
-        System.out.println("   GET  /api/debug/status");
+        System.out.println("   GET  /api/aulas/{id}/categorias");
+        System.out.println("   GET  /api/relatorios/aulas-por-categoria");
+        System.out.println("   GET  /api/export");
+        System.out.println("   POST /api/import");
+        System.out.println("   GET  /actuator/prometheus");
     }
 }
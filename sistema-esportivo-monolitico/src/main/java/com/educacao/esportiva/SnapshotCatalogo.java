@@ -0,0 +1,120 @@
+package com.educacao.esportiva;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * SNAPSHOT BINÁRIO DO CATÁLOGO
+ *
+ * Cópia compacta de todos os armazenamentos, usada como ponto de partida da recuperação.
+ * Formato: [MAGICO][versão][segmento do diário][último ID de cada armazenamento]
+ * [entidades codificadas por {@link CodecCatalogo}][FIM][CRC32 de tudo o que veio antes].
+ *
+ * O snapshot é gravado em um arquivo temporário e movido atomicamente sobre o anterior,
+ * de modo que uma queda durante a gravação preserva o snapshot antigo.
+ * Ele é feito sem bloquear as escritas; as mutações concorrentes a ele também estão no
+ * diário a partir do segmento registrado no cabeçalho e são reaplicadas na recuperação.
+ */
+final class SnapshotCatalogo {
+
+    private static final int MAGICO = 0x45535043; // "ESPC"
+    private static final int VERSAO = 1;
+    private static final byte FIM = 0;
+    private static final int BUFFER = 1 << 16;
+
+    private SnapshotCatalogo() {}
+
+    /**
+     * @param segmentoDiario Primeiro segmento do diário a reaplicar sobre este snapshot
+     * @param armazenamentos Armazenamentos por tipo de entidade ({@link CodecCatalogo})
+     */
+    static void gravar(Path arquivo, long segmentoDiario,
+                       Map<Byte, ArmazenamentoConcorrente<?>> armazenamentos) throws IOException {
+        Path temporario = arquivo.resolveSibling(arquivo.getFileName() + ".tmp");
+        CRC32 crc = new CRC32();
+
+        try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.CREATE,
+                 StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             OutputStream arquivoSaida = Channels.newOutputStream(canal);
+             DataOutputStream saida = new DataOutputStream(
+                 new CheckedOutputStream(new BufferedOutputStream(arquivoSaida, BUFFER), crc))) {
+            saida.writeInt(MAGICO);
+            saida.writeInt(VERSAO);
+            saida.writeLong(segmentoDiario);
+            saida.writeByte(armazenamentos.size());
+            for (Map.Entry<Byte, ArmazenamentoConcorrente<?>> armazenamento : armazenamentos.entrySet()) {
+                saida.writeByte(armazenamento.getKey());
+                saida.writeLong(armazenamento.getValue().ultimoIdReservado());
+            }
+
+            for (ArmazenamentoConcorrente<?> armazenamento : armazenamentos.values()) {
+                for (Object entidade : armazenamento.valores()) {
+                    CodecCatalogo.escrever(saida, entidade);
+                }
+            }
+            saida.writeByte(FIM);
+            saida.flush();
+            // O CRC cobre tudo até aqui; escrito diretamente para não entrar no próprio cálculo
+            new DataOutputStream(arquivoSaida).writeInt((int) crc.getValue());
+            canal.force(true);
+        }
+
+        Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Carrega o snapshot nos armazenamentos (que devem estar vazios)
+     * @return Primeiro segmento do diário a reaplicar
+     */
+    @SuppressWarnings("unchecked")
+    static long carregar(Path arquivo, Map<Byte, ArmazenamentoConcorrente<?>> armazenamentos) throws IOException {
+        CRC32 crc = new CRC32();
+
+        try (InputStream arquivoEntrada = new BufferedInputStream(Files.newInputStream(arquivo), BUFFER);
+             DataInputStream entrada = new DataInputStream(new CheckedInputStream(arquivoEntrada, crc))) {
+            if (entrada.readInt() != MAGICO || entrada.readInt() != VERSAO) {
+                throw new IOException("Arquivo não é um snapshot do catálogo: " + arquivo);
+            }
+            long segmentoDiario = entrada.readLong();
+
+            int quantidadeArmazenamentos = entrada.readUnsignedByte();
+            for (int i = 0; i < quantidadeArmazenamentos; i++) {
+                ArmazenamentoConcorrente<?> armazenamento = armazenamentos.get(entrada.readByte());
+                long ultimoId = entrada.readLong();
+                if (armazenamento != null) {
+                    armazenamento.avancarIdPara(ultimoId);
+                }
+            }
+
+            byte tipo;
+            while ((tipo = entrada.readByte()) != FIM) {
+                Object entidade = CodecCatalogo.lerCampos(entrada, tipo);
+                // O marcador lido pode ser uma variante do tipo (ex.: aula com horário)
+                ArmazenamentoConcorrente<Object> armazenamento =
+                    (ArmazenamentoConcorrente<Object>) armazenamentos.get(CodecCatalogo.tipoDe(entidade));
+                armazenamento.restaurar(CodecCatalogo.idDe(entidade), entidade);
+            }
+
+            int esperado = (int) crc.getValue();
+            if (new DataInputStream(arquivoEntrada).readInt() != esperado) {
+                throw new IOException("Snapshot corrompido (CRC inválido): " + arquivo);
+            }
+            return segmentoDiario;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.educacao.esportiva;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes do índice de intervalos da agenda de um professor
+ */
+class AgendaProfessorTest {
+
+    private static final LocalDate DIA = LocalDate.of(2030, 3, 4);
+
+    private final AgendaProfessor agenda = new AgendaProfessor();
+
+    @Test
+    void recusaAulaQueSobrepoeOutraEMantemAAgenda() {
+        Aula existente = aula(1L, DIA, LocalTime.of(10, 0), 60);
+        assertThat(agenda.reservar(existente)).isNull();
+
+        assertThat(agenda.reservar(aula(2L, DIA, LocalTime.of(10, 30), 60))).isSameAs(existente);
+        assertThat(agenda.reservar(aula(3L, DIA, LocalTime.of(9, 30), 31))).isSameAs(existente);
+        assertThat(agenda.reservar(aula(4L, DIA, LocalTime.of(10, 0), 10))).isSameAs(existente);
+        assertThat(agenda.entre(inicio(DIA, 0, 0), inicio(DIA.plusDays(1), 0, 0))).containsExactly(existente);
+    }
+
+    @Test
+    void aceitaAulasQueApenasEncostam() {
+        Aula manha = aula(1L, DIA, LocalTime.of(10, 0), 60);
+        Aula antes = aula(2L, DIA, LocalTime.of(9, 0), 60);
+        Aula depois = aula(3L, DIA, LocalTime.of(11, 0), 60);
+
+        assertThat(agenda.reservar(manha)).isNull();
+        assertThat(agenda.reservar(antes)).isNull();
+        assertThat(agenda.reservar(depois)).isNull();
+        assertThat(agenda.entre(inicio(DIA, 0, 0), inicio(DIA.plusDays(1), 0, 0))).containsExactly(antes, manha, depois);
+    }
+
+    @Test
+    void aulaLongaQueComecaAntesConflitaComHorarioDentroDela() {
+        Aula longa = aula(1L, DIA, LocalTime.of(8, 0), 8 * 60);
+        agenda.reservar(longa);
+        agenda.reservar(aula(2L, DIA.plusDays(1), LocalTime.of(8, 0), 60));
+
+        assertThat(agenda.reservar(aula(3L, DIA, LocalTime.of(15, 0), 30))).isSameAs(longa);
+        assertThat(agenda.reservar(aula(4L, DIA, LocalTime.of(16, 0), 30))).isNull();
+    }
+
+    @Test
+    void consultaPorPeriodoIncluiAulaIniciadaAntesDoPeriodo() {
+        Aula madrugada = aula(1L, DIA.minusDays(1), LocalTime.of(23, 0), 120);
+        Aula tarde = aula(2L, DIA, LocalTime.of(14, 0), 60);
+        Aula diaSeguinte = aula(3L, DIA.plusDays(1), LocalTime.of(8, 0), 60);
+        agenda.reservar(madrugada);
+        agenda.reservar(tarde);
+        agenda.reservar(diaSeguinte);
+
+        long inicioDoDia = AgendaProfessor.inicioDoDia(DIA);
+        long fimDoDia = AgendaProfessor.inicioDoDia(DIA.plusDays(1));
+
+        assertThat(agenda.entre(inicioDoDia, fimDoDia)).containsExactly(madrugada, tarde);
+        assertThat(agenda.entre(inicio(DIA, 1, 0), inicio(DIA, 14, 0))).isEmpty();
+        assertThat(agenda.entre(fimDoDia, fimDoDia)).isEmpty();
+    }
+
+    @Test
+    void liberarDesfazAReserva() {
+        Aula aula = aula(1L, DIA, LocalTime.of(10, 0), 60);
+        agenda.reservar(aula);
+
+        agenda.liberar(aula);
+
+        assertThat(agenda.entre(AgendaProfessor.inicioDoDia(DIA), AgendaProfessor.inicioDoDia(DIA.plusDays(1)))).isEmpty();
+        assertThat(agenda.reservar(aula(2L, DIA, LocalTime.of(10, 0), 60))).isNull();
+    }
+
+    @Test
+    void aulasSemHorarioNaoConflitamEEntramNaConsultaDoDia() {
+        Aula comHorario = aula(1L, DIA, LocalTime.of(0, 0), 60);
+        Aula semHorario = aula(2L, DIA, null, 60);
+        Aula outraSemHorario = aula(3L, DIA, null, 90);
+        Aula madrugada = aula(4L, DIA.minusDays(1), LocalTime.of(23, 0), 60);
+
+        assertThat(agenda.reservar(comHorario)).isNull();
+        assertThat(agenda.reservar(semHorario)).isNull();
+        assertThat(agenda.reservar(outraSemHorario)).isNull();
+        assertThat(agenda.reservar(madrugada)).isNull();
+        // A aula sem horário não ocupa 00:00: a das 00:00 continua sendo o único choque
+        assertThat(agenda.reservar(aula(5L, DIA, LocalTime.of(0, 30), 30))).isSameAs(comHorario);
+
+        long inicioDoDia = AgendaProfessor.inicioDoDia(DIA);
+        assertThat(agenda.entre(inicioDoDia, AgendaProfessor.inicioDoDia(DIA.plusDays(1))))
+            .containsExactly(semHorario, outraSemHorario, comHorario);
+        assertThat(agenda.entre(inicio(DIA.minusDays(1), 23, 0), inicio(DIA, 1, 0)))
+            .containsExactly(madrugada, semHorario, outraSemHorario, comHorario);
+        assertThat(agenda.entre(inicio(DIA, 12, 0), inicio(DIA, 13, 0))).containsExactly(semHorario, outraSemHorario);
+        assertThat(agenda.entre(inicio(DIA.minusDays(1), 22, 0), inicioDoDia)).containsExactly(madrugada);
+    }
+
+    @Test
+    void aulasSemHorarioRegistradasELiberadas() {
+        Aula semHorario = aula(1L, DIA, null, 60);
+        Aula recuperada = aula(2L, DIA, null, 60);
+        agenda.reservar(semHorario);
+        agenda.registrar(recuperada);
+
+        agenda.liberar(semHorario);
+
+        long inicioDoDia = AgendaProfessor.inicioDoDia(DIA);
+        assertThat(agenda.entre(inicioDoDia, AgendaProfessor.inicioDoDia(DIA.plusDays(1)))).containsExactly(recuperada);
+        agenda.liberar(recuperada);
+        assertThat(agenda.entre(inicioDoDia, AgendaProfessor.inicioDoDia(DIA.plusDays(1)))).isEmpty();
+    }
+
+    private static Aula aula(Long id, LocalDate data, LocalTime horario, int duracao) {
+        Aula aula = new Aula(id, data, duracao, new long[] {1L}, 1L);
+        aula.setHorario(horario);
+        return aula;
+    }
+
+    private static long inicio(LocalDate data, int hora, int minuto) {
+        return AgendaProfessor.inicioDoDia(data) + hora * 60L + minuto;
+    }
+}
@@ -0,0 +1,147 @@
+package com.educacao.esportiva;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes do diário de mutações: recuperação, reaplicação idempotente e encerramento
+ */
+class DiarioMutacoesTest {
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    void recuperaAsMutacoesNaOrdemGravada() throws Exception {
+        try (DiarioMutacoes diario = new DiarioMutacoes(diretorio)) {
+            diario.registrarSalvar(new Esporte(1L, "Futebol", "Coletivo")).join();
+            diario.registrarSalvarTodos(List.of(
+                new Esporte(2L, "Natação", "Individual"),
+                new Esporte(3L, "Vôlei", "Coletivo"))).join();
+            diario.registrarSalvar(new Esporte(2L, "Natação em águas abertas", "Individual")).join();
+            diario.registrarRemocao(CodecCatalogo.TIPO_ESPORTE, 1L).join();
+        }
+
+        Map<Long, String> nomes = new TreeMap<>();
+        long aplicadas = DiarioMutacoes.reaplicar(diretorio, 0, aplicadorDeNomes(nomes));
+
+        assertThat(aplicadas).isEqualTo(4);
+        assertThat(nomes).containsExactly(
+            Map.entry(2L, "Natação em águas abertas"),
+            Map.entry(3L, "Vôlei"));
+    }
+
+    @Test
+    void reaplicarSobreEstadoJaRecuperadoNaoMudaNada() throws Exception {
+        try (DiarioMutacoes diario = new DiarioMutacoes(diretorio)) {
+            diario.registrarSalvar(new Esporte(1L, "Futebol", "Coletivo")).join();
+            diario.registrarSalvar(new Esporte(2L, "Judô", "Individual")).join();
+            diario.registrarRemocao(CodecCatalogo.TIPO_ESPORTE, 1L).join();
+            diario.registrarRemocao(CodecCatalogo.TIPO_ESPORTE, 99L).join();
+        }
+
+        Map<Long, String> nomes = new TreeMap<>();
+        DiarioMutacoes.reaplicar(diretorio, 0, aplicadorDeNomes(nomes));
+        Map<Long, String> primeiraRecuperacao = new TreeMap<>(nomes);
+        DiarioMutacoes.reaplicar(diretorio, 0, aplicadorDeNomes(nomes));
+
+        assertThat(nomes).isEqualTo(primeiraRecuperacao).containsExactly(Map.entry(2L, "Judô"));
+    }
+
+    @Test
+    void reaplicaSomenteOsSegmentosAPartirDoInformado() throws Exception {
+        long segmentoDoSnapshot;
+        try (DiarioMutacoes diario = new DiarioMutacoes(diretorio)) {
+            diario.registrarSalvar(new Esporte(1L, "Futebol", "Coletivo")).join();
+            segmentoDoSnapshot = diario.rotacionar();
+            diario.registrarSalvar(new Esporte(2L, "Judô", "Individual")).join();
+        }
+
+        Map<Long, String> nomes = new TreeMap<>();
+        DiarioMutacoes.reaplicar(diretorio, segmentoDoSnapshot, aplicadorDeNomes(nomes));
+
+        assertThat(nomes).containsOnlyKeys(2L);
+    }
+
+    @Test
+    void quadroIncompletoNoFinalEhDescartadoETruncado() throws Exception {
+        try (DiarioMutacoes diario = new DiarioMutacoes(diretorio)) {
+            diario.registrarSalvar(new Esporte(1L, "Futebol", "Coletivo")).join();
+        }
+        Path segmento = ultimoSegmento();
+        long tamanhoValido = Files.size(segmento);
+        // Cabeçalho de um quadro de 100 bytes seguido de apenas 3 (queda durante a gravação)
+        Files.write(segmento, new byte[] {0, 0, 0, 100, 1, 2, 3, 4, 9, 9, 9}, StandardOpenOption.APPEND);
+
+        Map<Long, String> nomes = new TreeMap<>();
+        long aplicadas = DiarioMutacoes.reaplicar(diretorio, 0, aplicadorDeNomes(nomes));
+
+        assertThat(aplicadas).isEqualTo(1);
+        assertThat(nomes).containsOnlyKeys(1L);
+        assertThat(Files.size(segmento)).isEqualTo(tamanhoValido);
+    }
+
+    @Test
+    void registroDepoisDoEncerramentoFalhaSemBloquear() throws Exception {
+        DiarioMutacoes diario = new DiarioMutacoes(diretorio);
+        diario.close();
+
+        CompletableFuture<Void> gravado = diario.registrarSalvar(new Esporte(1L, "Futebol", "Coletivo"));
+
+        assertThat(gravado).isCompletedExceptionally();
+        assertThatThrownBy(gravado::join)
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void encerramentoConcluiTodosOsRegistrosEnfileirados() throws Exception {
+        DiarioMutacoes diario = new DiarioMutacoes(diretorio);
+        CompletableFuture<?>[] gravados = new CompletableFuture<?>[1000];
+        for (int i = 0; i < gravados.length; i++) {
+            gravados[i] = diario.registrarSalvar(new Esporte((long) i, "Esporte " + i, "Coletivo"));
+        }
+        diario.close();
+
+        assertThat(gravados).allMatch(CompletableFuture::isDone);
+        Map<Long, String> nomes = new TreeMap<>();
+        DiarioMutacoes.reaplicar(diretorio, 0, aplicadorDeNomes(nomes));
+        assertThat(nomes).hasSize(gravados.length);
+    }
+
+    private static DiarioMutacoes.Aplicador aplicadorDeNomes(Map<Long, String> nomes) {
+        return new DiarioMutacoes.Aplicador() {
+            @Override
+            public void salvar(Object entidade) {
+                Esporte esporte = (Esporte) entidade;
+                nomes.put(esporte.getId(), esporte.getNome());
+            }
+
+            @Override
+            public void remover(byte tipo, Long id) {
+                nomes.remove(id);
+            }
+        };
+    }
+
+    private Path ultimoSegmento() throws Exception {
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            return arquivos.filter(arquivo -> arquivo.getFileName().toString().endsWith(".wal"))
+                .max(Path::compareTo)
+                .orElseThrow();
+        }
+    }
+}
@@ -0,0 +1,501 @@
+package com.educacao.esportiva;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes dos endpoints do monolito (dados de exemplo, sem persistência em disco).
+ * Cada teste cadastra o próprio professor, para não depender da ordem de execução.
+ */
+@SpringBootTest(properties = "persistencia.diretorio=")
+@AutoConfigureMockMvc
+class SistemaEsportivoControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SistemaEsportivoController controller;
+
+    @Test
+    void aulaEmHorarioOcupadoRespondeConflito() throws Exception {
+        long professorId = criarProfessor();
+        long aulaId = criarAula(professorId, "2030-05-06", "10:00", 60);
+
+        mockMvc.perform(post("/api/aulas")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(aulaJson(professorId, "2030-05-06", "10:30", 60)))
+            .andExpect(status().isConflict())
+            .andExpect(content().string(containsString("aula " + aulaId)));
+
+        // Outro professor no mesmo horário não conflita
+        criarAula(criarProfessor(), "2030-05-06", "10:30", 60);
+    }
+
+    @Test
+    void agendaDoProfessorDevolveAulasDoPeriodoEmOrdem() throws Exception {
+        long professorId = criarProfessor();
+        long domingo = criarAula(professorId, "2030-05-05", "23:00", 120);
+        long segundaTarde = criarAula(professorId, "2030-05-06", "14:00", 60);
+        long segundaManha = criarAula(professorId, "2030-05-06", "08:00", 60);
+        criarAula(professorId, "2030-05-07", "08:00", 60);
+
+        mockMvc.perform(get("/api/professores/{id}/agenda", professorId)
+                .param("from", "2030-05-06")
+                .param("to", "2030-05-06"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(3)))
+            .andExpect(jsonPath("$[0].id").value(domingo))
+            .andExpect(jsonPath("$[1].id").value(segundaManha))
+            .andExpect(jsonPath("$[2].id").value(segundaTarde));
+    }
+
+    @Test
+    void agendaComPeriodoInvertidoOuProfessorInexistente() throws Exception {
+        long professorId = criarProfessor();
+
+        mockMvc.perform(get("/api/professores/{id}/agenda", professorId)
+                .param("from", "2030-05-07")
+                .param("to", "2030-05-06"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/professores/{id}/agenda", 999_999)
+                .param("from", "2030-05-06")
+                .param("to", "2030-05-07"))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void loteDevolveResultadoPorItemNaOrdemRecebida() throws Exception {
+        long professorId = criarProfessor();
+        long existente = criarAula(professorId, "2030-06-03", "08:00", 60);
+        String lote = "["
+            + aulaJson(professorId, "2030-06-03", "10:00", 60) + ","
+            + aulaJson(professorId, "2030-06-03", "10:30", 60) + ","
+            + aulaJson(professorId, "2030-06-03", "08:15", 30) + ","
+            + "{\"data\":\"2030-06-03\",\"duracao\":60,\"conteudos\":[1,999999],\"professorId\":999999},"
+            + "{\"data\":\"2030-06-03\",\"duracao\":0,\"conteudos\":[1],\"professorId\":" + professorId + "},"
+            + aulaJson(professorId, "2030-06-04", "10:00", 60)
+            + "]";
+
+        String resposta = mockMvc.perform(post("/api/aulas/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(lote))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.criadas").value(2))
+            .andExpect(jsonPath("$.rejeitadas").value(4))
+            .andExpect(jsonPath("$.resultados", hasSize(6)))
+            .andExpect(jsonPath("$.resultados[2].erro").value("Professor já possui a aula " + existente + " nesse horário"))
+            .andExpect(jsonPath("$.resultados[3].erro").value("Professor não encontrado; Conteúdos não encontrados: 999999"))
+            .andExpect(jsonPath("$.resultados[4].erro").value("Duração deve ser maior que zero"))
+            .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        JsonNode resultados = objectMapper.readTree(resposta).get("resultados");
+        for (int i = 0; i < resultados.size(); i++) {
+            assertThat(resultados.get(i).get("indice").asInt()).isEqualTo(i);
+        }
+        long primeira = resultados.get(0).get("id").asLong();
+        long ultima = resultados.get(5).get("id").asLong();
+        // O choque com outro item do lote cita o ID real da aula criada
+        assertThat(resultados.get(1).get("erro").asText())
+            .isEqualTo("Professor já possui a aula " + primeira + " nesse horário");
+
+        mockMvc.perform(get("/api/professores/{id}/agenda", professorId)
+                .param("from", "2030-06-03")
+                .param("to", "2030-06-04"))
+            .andExpect(jsonPath("$", hasSize(3)))
+            .andExpect(jsonPath("$[0].id").value(existente))
+            .andExpect(jsonPath("$[1].id").value(primeira))
+            .andExpect(jsonPath("$[2].id").value(ultima));
+        mockMvc.perform(get("/api/aulas/{id}/categorias", ultima))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void aulasSemHorarioNaoConflitamNemNoLote() throws Exception {
+        long professorId = criarProfessor();
+        long comHorario = criarAula(professorId, "2030-07-01", "00:00", 60);
+        long semHorario = criarAula(professorId, "2030-07-01", null, 60);
+        String lote = "["
+            + aulaJson(professorId, "2030-07-01", null, 60) + ","
+            + aulaJson(professorId, "2030-07-01", null, 90) + ","
+            + aulaJson(professorId, "2030-07-01", "00:30", 30)
+            + "]";
+
+        String resposta = mockMvc.perform(post("/api/aulas/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(lote))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.criadas").value(2))
+            .andExpect(jsonPath("$.resultados[2].erro").value("Professor já possui a aula " + comHorario + " nesse horário"))
+            .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        JsonNode resultados = objectMapper.readTree(resposta).get("resultados");
+        mockMvc.perform(get("/api/professores/{id}/agenda", professorId)
+                .param("from", "2030-07-01")
+                .param("to", "2030-07-01"))
+            .andExpect(jsonPath("$", hasSize(4)))
+            .andExpect(jsonPath("$[0].id").value(semHorario))
+            .andExpect(jsonPath("$[1].id").value(resultados.get(0).get("id").asLong()))
+            .andExpect(jsonPath("$[2].id").value(resultados.get(1).get("id").asLong()))
+            .andExpect(jsonPath("$[3].id").value(comHorario));
+    }
+
+    @Test
+    void loteAcimaDoLimiteEhRecusado() throws Exception {
+        StringBuilder lote = new StringBuilder("[");
+        for (int i = 0; i <= SistemaEsportivoController.MAXIMO_AULAS_POR_LOTE; i++) {
+            lote.append(i > 0 ? "," : "").append("{}");
+        }
+        lote.append("]");
+
+        mockMvc.perform(post("/api/aulas/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(lote.toString()))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void categoriaQueSoDifereEmAcentosECaixaReutilizaOCodigo() throws Exception {
+        mockMvc.perform(post("/api/esportes")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"nome\":\"Remo olímpico\",\"categoria\":\"Náutico\"}"))
+            .andExpect(status().isCreated());
+        mockMvc.perform(post("/api/esportes")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"nome\":\"Vela olímpica\",\"categoria\":\" NAUTICO\"}"))
+            .andExpect(status().isCreated());
+
+        String resposta = mockMvc.perform(get("/api/categorias"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(objectMapper.readTree(resposta).findValuesAsText("nome"))
+            .filteredOn(nome -> nome.trim().equalsIgnoreCase("náutico") || nome.trim().equalsIgnoreCase("nautico"))
+            .containsExactly("Náutico");
+    }
+
+    @Test
+    void filtroPorCategoriaAcompanhaNovasAulasETrocaDeCategoriaDoEsporte() throws Exception {
+        long esporteId = criarEsporte("Pelota basca", "Frontão");
+        long conteudoId = criarConteudo(esporteId);
+        long professorId = criarProfessor();
+        long aulaId = criarAula(professorId, "2030-08-01", "09:00", 60, conteudoId);
+
+        mockMvc.perform(get("/api/aulas/filtrar").param("categoria", " FRONTAO"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].id").value(aulaId));
+
+        mockMvc.perform(put("/api/esportes/{id}", esporteId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"nome\":\"Pelota basca\",\"categoria\":\"Quadra de parede\"}"))
+            .andExpect(status().isOk());
+        long segundaAula = criarAula(professorId, "2030-08-02", "09:00", 60, conteudoId);
+
+        mockMvc.perform(get("/api/aulas/filtrar").param("categoria", "Frontão"))
+            .andExpect(jsonPath("$", hasSize(0)));
+        mockMvc.perform(get("/api/aulas/filtrar").param("categoria", "quadra de parede"))
+            .andExpect(jsonPath("$[*].id", containsInAnyOrder((int) aulaId, (int) segundaAula)));
+        // Categoria desconhecida não tem aulas e não é criada pela consulta
+        mockMvc.perform(get("/api/aulas/filtrar").param("categoria", "Categoria inexistente"))
+            .andExpect(jsonPath("$", hasSize(0)));
+        mockMvc.perform(get("/api/categorias"))
+            .andExpect(content().string(not(containsString("Categoria inexistente"))));
+    }
+
+    @Test
+    void conteudosDoEsporteVemDoIndiceEmOrdemDeIdComPaginacao() throws Exception {
+        long esporteId = criarEsporte("Tchoukball", "Quadra");
+        long primeiro = criarConteudo(esporteId);
+        long segundo = criarConteudo(esporteId);
+        long terceiro = criarConteudo(esporteId);
+        criarConteudo(criarEsporte("Tamboréu", "Quadra"));
+
+        mockMvc.perform(get("/api/conteudos/esporte/{id}", esporteId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].id", contains((int) primeiro, (int) segundo, (int) terceiro)));
+        mockMvc.perform(get("/api/conteudos/esporte/{id}", esporteId)
+                .param("pagina", "1")
+                .param("tamanho", "2"))
+            .andExpect(jsonPath("$[*].id", contains((int) terceiro)));
+
+        mockMvc.perform(delete("/api/conteudos/{id}", segundo))
+            .andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/conteudos/esporte/{id}", esporteId))
+            .andExpect(jsonPath("$[*].id", contains((int) primeiro, (int) terceiro)));
+
+        mockMvc.perform(get("/api/conteudos/esporte/{id}", esporteId).param("tamanho", "0"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/conteudos/esporte/{id}", 999_999))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void aulasPorPeriodoAcompanhamCadastroLoteImportacaoETrocaDeCategoria() throws Exception {
+        long esporteId = criarEsporte("Esgrima", "Combate");
+        long conteudoId = criarConteudo(esporteId);
+        long professorId = criarProfessor();
+        long individual = criarAula(professorId, "2031-01-12", "10:00", 60, conteudoId);
+        String resposta = mockMvc.perform(post("/api/aulas/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[" + aulaJson(professorId, "2031-01-10", "10:00", 60) + ","
+                    + aulaJson(professorId, "2031-01-12", "08:00", 60) + "]"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        JsonNode lote = objectMapper.readTree(resposta).get("resultados");
+        long primeiroDia = lote.get(0).get("id").asLong();
+        long mesmoDia = lote.get(1).get("id").asLong();
+        mockMvc.perform(post("/api/import")
+                .contentType(SistemaEsportivoController.MEDIA_TYPE_NDJSON)
+                .content("{\"tipo\":\"aula\",\"dados\":{\"id\":920001,\"data\":\"2031-01-11\",\"horario\":\"10:00\","
+                    + "\"duracao\":60,\"conteudos\":[" + conteudoId + "],\"professorId\":" + professorId + "}}"))
+            .andExpect(jsonPath("$.importados").value(1));
+
+        // Em ordem de data e, no mesmo dia, de ID; os limites são inclusivos
+        mockMvc.perform(get("/api/aulas").param("de", "2031-01-10").param("ate", "2031-01-12"))
+            .andExpect(jsonPath("$[*].id", contains((int) primeiroDia, 920001, (int) individual, (int) mesmoDia)));
+        mockMvc.perform(get("/api/aulas").param("de", "2031-01-11").param("ate", "2031-01-11"))
+            .andExpect(jsonPath("$[*].id", contains(920001)));
+        mockMvc.perform(get("/api/aulas").param("de", "2031-01-12").param("ate", "2031-01-10"))
+            .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/aulas").param("de", "2031-01-10").param("ate", "2031-01-12").param("categoria", "combate"))
+            .andExpect(jsonPath("$[*].id", contains(920001, (int) individual)));
+        mockMvc.perform(put("/api/esportes/{id}", esporteId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"nome\":\"Esgrima\",\"categoria\":\"Luta\"}"))
+            .andExpect(status().isOk());
+        mockMvc.perform(get("/api/aulas").param("de", "2031-01-10").param("ate", "2031-01-12").param("categoria", "Combate"))
+            .andExpect(jsonPath("$", hasSize(0)));
+        mockMvc.perform(get("/api/aulas").param("de", "2031-01-10").param("ate", "2031-01-12").param("categoria", "Luta"))
+            .andExpect(jsonPath("$[*].id", contains(920001, (int) individual)));
+    }
+
+    @Test
+    void loteQueNaoChegaAoDiarioNaoEntraNoIndiceDeDatas(@TempDir Path diretorio) throws Exception {
+        long professorId = criarProfessor();
+        DiarioMutacoes encerrado = new DiarioMutacoes(diretorio);
+        encerrado.close();
+        ReflectionTestUtils.setField(controller, "diario", encerrado);
+        try {
+            mockMvc.perform(post("/api/aulas/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("[" + aulaJson(professorId, "2031-02-03", "10:00", 60) + "]"))
+                .andExpect(status().isInternalServerError());
+        } finally {
+            ReflectionTestUtils.setField(controller, "diario", null);
+        }
+
+        mockMvc.perform(get("/api/aulas").param("de", "2031-02-03").param("ate", "2031-02-03"))
+            .andExpect(jsonPath("$", hasSize(0)));
+        // O horário liberado pode ser reservado de novo
+        criarAula(professorId, "2031-02-03", "10:00", 60);
+        mockMvc.perform(get("/api/aulas").param("de", "2031-02-03").param("ate", "2031-02-03"))
+            .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    void professoresPorEspecializacaoIgnoramAcentosECaixaEIncluemOsImportados() throws Exception {
+        long primeiro = criarProfessor("Escalada Esportiva");
+        long segundo = criarProfessor(" escalada esportiva");
+        criarProfessor("Escalada em gelo");
+        mockMvc.perform(post("/api/import")
+                .contentType(SistemaEsportivoController.MEDIA_TYPE_NDJSON)
+                .content("{\"tipo\":\"professor\",\"dados\":{\"id\":930001,\"nome\":\"Professor importado\","
+                    + "\"especializacao\":\"ESCALADA ESPORTIVA\"}}"))
+            .andExpect(jsonPath("$.importados").value(1));
+
+        mockMvc.perform(get("/api/professores/especializacao/{especializacao}", "Escaládà esportiva"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].id", contains((int) primeiro, (int) segundo, 930001)));
+        mockMvc.perform(get("/api/professores/especializacao/{especializacao}", "escalada esportiva")
+                .param("pagina", "1")
+                .param("tamanho", "2"))
+            .andExpect(jsonPath("$[*].id", contains(930001)));
+        mockMvc.perform(get("/api/professores/especializacao/{especializacao}", "Escalada")
+                .param("tamanho", "0"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/professores/especializacao/{especializacao}", "Escalada"))
+            .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    void falhaAoGravarNoDiarioDesfazOCadastroDoProfessor(@TempDir Path diretorio) throws Exception {
+        DiarioMutacoes encerrado = new DiarioMutacoes(diretorio);
+        encerrado.close();
+        ReflectionTestUtils.setField(controller, "diario", encerrado);
+        try {
+            mockMvc.perform(post("/api/professores")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"nome\":\"Professor sem diário\",\"especializacao\":\"Slackline\"}"))
+                .andExpect(status().isInternalServerError());
+        } finally {
+            ReflectionTestUtils.setField(controller, "diario", null);
+        }
+
+        mockMvc.perform(get("/api/professores/especializacao/{especializacao}", "Slackline"))
+            .andExpect(jsonPath("$", hasSize(0)));
+        mockMvc.perform(get("/api/professores"))
+            .andExpect(content().string(not(containsString("Professor sem diário"))));
+    }
+
+    @Test
+    void importacaoPreservaOsIdsEExportacaoDevolveOsMesmosRegistros() throws Exception {
+        String catalogo = String.join("\n",
+            "{\"tipo\":\"esporte\",\"dados\":{\"id\":900001,\"nome\":\"Canoagem\",\"categoria\":\"Aquático\"}}",
+            "{\"tipo\":\"conteudo\",\"dados\":{\"id\":900002,\"nome\":\"Remada\",\"descricao\":\"Técnica\",\"esporteId\":900001}}",
+            "{\"tipo\":\"professor\",\"dados\":{\"id\":900003,\"nome\":\"Professora importada\",\"especializacao\":\"Canoagem\"}}",
+            "{\"tipo\":\"aula\",\"dados\":{\"id\":900004,\"data\":\"2030-07-01\",\"horario\":\"09:00\",\"duracao\":60,"
+                + "\"conteudos\":[900002],\"professorId\":900003}}",
+            "{\"tipo\":\"conteudo\",\"dados\":{\"id\":900005,\"nome\":\"Sem esporte\",\"esporteId\":999999}}",
+            "{\"tipo\":\"esporte\",\"dados\":{\"id\":900001,\"nome\":\"Caiaque\",\"categoria\":\"Aquático\"}}");
+
+        mockMvc.perform(post("/api/import")
+                .contentType(SistemaEsportivoController.MEDIA_TYPE_NDJSON)
+                .content(catalogo))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.importados").value(4))
+            .andExpect(jsonPath("$.rejeitados").value(2))
+            .andExpect(jsonPath("$.erros[0]").value(containsString("Linha 5:")))
+            .andExpect(jsonPath("$.erros[1]").value("Linha 6: esporte com ID 900001 já existe"));
+
+        MvcResult exportacao = mockMvc.perform(get("/api/export"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        exportacao.getAsyncResult();
+        assertThat(exportacao.getRequest().getAsyncContext().getTimeout())
+            .isEqualTo(Duration.ofMinutes(30).toMillis());
+
+        Map<Long, JsonNode> exportados = new HashMap<>();
+        for (String linha : exportacao.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n")) {
+            JsonNode dados = objectMapper.readTree(linha).get("dados");
+            exportados.put(dados.get("id").asLong(), dados);
+        }
+        assertThat(exportados.get(900001L).get("nome").asText()).isEqualTo("Canoagem");
+        assertThat(exportados.get(900002L).get("esporteId").asLong()).isEqualTo(900001L);
+        assertThat(exportados.get(900004L).get("professorId").asLong()).isEqualTo(900003L);
+        assertThat(exportados).doesNotContainKey(900005L);
+    }
+
+    @Test
+    void linhaMalformadaInterrompeAImportacaoInformandoALinha() throws Exception {
+        String catalogo = "{\"tipo\":\"professor\",\"dados\":{\"id\":910001,\"nome\":\"Antes do erro\"}}\n"
+            + "{\"tipo\":\"professor\",\"dados\":{\"id\":\n";
+
+        mockMvc.perform(post("/api/import")
+                .contentType(SistemaEsportivoController.MEDIA_TYPE_NDJSON)
+                .content(catalogo))
+            .andExpect(status().isBadRequest())
+            .andExpect(content().string(containsString("linha 2")));
+        // As linhas anteriores ao erro continuam importadas
+        mockMvc.perform(get("/api/professores"))
+            .andExpect(content().string(containsString("Antes do erro")));
+    }
+
+    @Test
+    void falhaAoGravarNoDiarioDesfazOCadastroDoEsporte(@TempDir Path diretorio) throws Exception {
+        DiarioMutacoes encerrado = new DiarioMutacoes(diretorio);
+        encerrado.close();
+        ReflectionTestUtils.setField(controller, "diario", encerrado);
+        try {
+            mockMvc.perform(post("/api/esportes")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"nome\":\"Rúgbi em cadeira de rodas\",\"categoria\":\"Coletivo\"}"))
+                .andExpect(status().isInternalServerError());
+        } finally {
+            ReflectionTestUtils.setField(controller, "diario", null);
+        }
+
+        mockMvc.perform(get("/api/esportes"))
+            .andExpect(content().string(not(containsString("Rúgbi em cadeira de rodas"))));
+        // O nome não ficou reservado pela tentativa que falhou
+        mockMvc.perform(post("/api/esportes")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"nome\":\"rugbi em cadeira de rodas\",\"categoria\":\"Coletivo\"}"))
+            .andExpect(status().isCreated());
+    }
+
+    private long criarProfessor() throws Exception {
+        return criarProfessor("Natação");
+    }
+
+    private long criarProfessor(String especializacao) throws Exception {
+        String resposta = mockMvc.perform(post("/api/professores")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"nome\":\"Professor de teste\",\"especializacao\":\"" + especializacao + "\"}"))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        return objectMapper.readTree(resposta).get("id").asLong();
+    }
+
+    private long criarEsporte(String nome, String categoria) throws Exception {
+        String resposta = mockMvc.perform(post("/api/esportes")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"nome\":\"" + nome + "\",\"categoria\":\"" + categoria + "\"}"))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        return objectMapper.readTree(resposta).get("id").asLong();
+    }
+
+    private long criarConteudo(long esporteId) throws Exception {
+        String resposta = mockMvc.perform(post("/api/conteudos")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"titulo\":\"Fundamentos\",\"url\":\"https://exemplo.com/fundamentos\","
+                    + "\"nivel\":\"Médio\",\"esporteId\":" + esporteId + "}"))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        return objectMapper.readTree(resposta).get("id").asLong();
+    }
+
+    private long criarAula(long professorId, String data, String horario, int duracao) throws Exception {
+        return criarAula(professorId, data, horario, duracao, 1L);
+    }
+
+    private long criarAula(long professorId, String data, String horario, int duracao, long conteudoId) throws Exception {
+        String resposta = mockMvc.perform(post("/api/aulas")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(aulaJson(professorId, data, horario, duracao).replace("[1]", "[" + conteudoId + "]")))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        JsonNode aula = objectMapper.readTree(resposta);
+        return aula.get("id").asLong();
+    }
+
+    private static String aulaJson(long professorId, String data, String horario, int duracao) {
+        String campoHorario = horario != null ? ",\"horario\":\"" + horario + "\"" : "";
+        return "{\"data\":\"" + data + "\"" + campoHorario + ",\"duracao\":" + duracao
+            + ",\"conteudos\":[1],\"professorId\":" + professorId + "}";
+    }
+}
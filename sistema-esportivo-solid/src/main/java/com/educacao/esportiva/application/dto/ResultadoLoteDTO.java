@@ -0,0 +1,61 @@
+package com.educacao.esportiva.application.dto;
+
+/**
+ * DTO com o resultado de um item de uma operação em lote.
+ */
+public class ResultadoLoteDTO {
+    private int indice;
+    private boolean sucesso;
+    private Long id;
+    private String erro;
+    
+    public ResultadoLoteDTO() {}
+    
+    public static ResultadoLoteDTO sucesso(int indice, Long id) {
+        ResultadoLoteDTO resultado = new ResultadoLoteDTO();
+        resultado.indice = indice;
+        resultado.sucesso = true;
+        resultado.id = id;
+        return resultado;
+    }
+    
+    public static ResultadoLoteDTO erro(int indice, String erro) {
+        ResultadoLoteDTO resultado = new ResultadoLoteDTO();
+        resultado.indice = indice;
+        resultado.sucesso = false;
+        resultado.erro = erro;
+        return resultado;
+    }
+    
+    public int getIndice() {
+        return indice;
+    }
+    
+    public void setIndice(int indice) {
+        this.indice = indice;
+    }
+    
+    public boolean isSucesso() {
+        return sucesso;
+    }
+    
+    public void setSucesso(boolean sucesso) {
+        this.sucesso = sucesso;
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getErro() {
+        return erro;
+    }
+    
+    public void setErro(String erro) {
+        this.erro = erro;
+    }
+}
@@ -0,0 +1,57 @@
+package com.educacao.esportiva.application.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO com o resumo de uma importação; guarda apenas as primeiras mensagens de erro.
+ */
+public class ResumoImportacaoDTO {
+    
+    public static final int MAXIMO_ERROS = 100;
+    
+    private long importados;
+    private long rejeitados;
+    private List<String> erros = new ArrayList<>();
+    
+    public ResumoImportacaoDTO() {}
+    
+    public void registrar(long linha, ResultadoLoteDTO resultado) {
+        if (resultado.isSucesso()) {
+            importados++;
+        } else {
+            registrarErro(linha, resultado.getErro());
+        }
+    }
+    
+    public void registrarErro(long linha, String erro) {
+        rejeitados++;
+        if (erros.size() < MAXIMO_ERROS) {
+            erros.add("Linha " + linha + ": " + erro);
+        }
+    }
+    
+    public long getImportados() {
+        return importados;
+    }
+    
+    public void setImportados(long importados) {
+        this.importados = importados;
+    }
+    
+    public long getRejeitados() {
+        return rejeitados;
+    }
+    
+    public void setRejeitados(long rejeitados) {
+        this.rejeitados = rejeitados;
+    }
+    
+    public List<String> getErros() {
+        return erros;
+    }
+    
+    public void setErros(List<String> erros) {
+        this.erros = erros;
+    }
+}
@@ -0,0 +1,94 @@
+package com.educacao.esportiva.application.service;
+
+import com.educacao.esportiva.domain.Categoria;
+import com.educacao.esportiva.domain.NormalizadorTexto;
+import com.educacao.esportiva.domain.repository.CategoriaRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dicionário de categorias: converte o nome de uma categoria no seu código inteiro.
+ * 
+ * O nome é comparado sem acentos e sem diferenças de caixa, como no monolito
+ * ("Coletivo" e "coletivo" têm o mesmo código). As categorias são poucas e nunca
+ * mudam depois de criadas, então ficam em memória após a primeira consulta.
+ * 
+ * Uma categoria nova é gravada em transação própria, confirmada antes de o cadastro
+ * do esporte continuar: fica no dicionário mesmo que o esporte seja recusado depois.
+ * Assim a linha não fica bloqueada até o fim de um lote longo, e duas requisições que
+ * criam a mesma categoria ao mesmo tempo não falham: a que perde a inserção na
+ * constraint única relê a categoria gravada pela outra e usa o mesmo código.
+ */
+@Service
+@Profile("!reativo")
+public class DicionarioCategorias {
+    
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+    
+    private final TransactionTemplate novaTransacao;
+    
+    private final Map<String, Categoria> porNome = new ConcurrentHashMap<>();
+    
+    public DicionarioCategorias(PlatformTransactionManager transactionManager) {
+        this.novaTransacao = new TransactionTemplate(transactionManager);
+        this.novaTransacao.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+    
+    /**
+     * @return Categoria (com código) do nome informado, criada se ainda não existir
+     */
+    @Transactional
+    public Categoria codificar(String nome) {
+        if (nome == null || nome.isBlank()) {
+            throw new IllegalArgumentException("Categoria do esporte é obrigatória");
+        }
+        String chave = NormalizadorTexto.normalizar(nome);
+        Optional<Categoria> existente = buscarPorChave(chave);
+        if (existente.isPresent()) {
+            return existente.get();
+        }
+        
+        Categoria categoria;
+        try {
+            categoria = novaTransacao.execute(status -> categoriaRepository.save(new Categoria(nome.trim())));
+        } catch (DataIntegrityViolationException e) {
+            // Outra requisição gravou a mesma categoria entre a consulta e a inserção
+            categoria = categoriaRepository.findByNomeNormalizado(chave).orElseThrow(() -> e);
+        }
+        Categoria anterior = porNome.putIfAbsent(chave, categoria);
+        return anterior != null ? anterior : categoria;
+    }
+    
+    /**
+     * @return Categoria do nome informado (ignorando acentos e caixa), sem criá-la
+     */
+    public Optional<Categoria> buscar(String nome) {
+        return buscarPorChave(NormalizadorTexto.normalizar(nome));
+    }
+    
+    public List<Categoria> listar() {
+        return categoriaRepository.findAll();
+    }
+    
+    private Optional<Categoria> buscarPorChave(String chave) {
+        Categoria categoria = porNome.get(chave);
+        if (categoria != null) {
+            return Optional.of(categoria);
+        }
+        Optional<Categoria> gravada = categoriaRepository.findByNomeNormalizado(chave);
+        gravada.ifPresent(encontrada -> porNome.putIfAbsent(chave, encontrada));
+        return gravada;
+    }
+}
@@ -1,59 +1,299 @@
 package com.educacao.esportiva.application.service;
 
+import com.educacao.esportiva.application.dto.CriarEsporteDTO;
+import com.educacao.esportiva.application.dto.ResultadoLoteDTO;
+import com.educacao.esportiva.domain.Categoria;
 import com.educacao.esportiva.domain.Esporte;
+import com.educacao.esportiva.domain.NormalizadorTexto;
 import com.educacao.esportiva.domain.repository.EsporteRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Serviço simples para operações com Esporte.
  */
 @Service
+@Profile("!reativo")
 public class EsporteService {
     
     @Autowired
     private EsporteRepository esporteRepository;
     
+    @Autowired
+    private IndiceNomeEsporte indiceNomeEsporte;
+    
+    @Autowired
+    private DicionarioCategorias dicionarioCategorias;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    /**
+     * O nome é reservado antes de a categoria ser codificada: um nome duplicado não cria
+     * categoria. Uma categoria nova é confirmada antes do esporte (ver DicionarioCategorias).
+     */
+    @Transactional
     public Esporte criarEsporte(String nome, String categoria) {
-        Esporte esporte = new Esporte(nome, categoria);
+        if (nome == null || nome.isBlank()) {
+            throw new IllegalArgumentException("Nome do esporte é obrigatório");
+        }
+        IndiceNomeEsporte.Reserva reserva = indiceNomeEsporte.reservar(nome);
+        if (reserva == null) {
+            throw new IllegalArgumentException("Já existe um esporte com o nome: " + nome);
+        }
+        Esporte esporte = new Esporte(nome, null);
+        confirmarReservasAoFinal(List.of(reserva), List.of(esporte));
+        esporte.setCategoria(dicionarioCategorias.codificar(categoria));
         return esporteRepository.save(esporte);
     }
     
+    /**
+     * Cria vários esportes em uma única transação.
+     * Itens inválidos (campos vazios ou nome duplicado, inclusive dentro do próprio lote)
+     * são reportados individualmente; os válidos são gravados com saveAll, permitindo
+     * que o Hibernate agrupe os INSERTs em lotes JDBC. Só os itens aceitos codificam
+     * a categoria, então itens recusados não criam categorias.
+     */
+    @Transactional
+    public List<ResultadoLoteDTO> criarEsportesEmLote(List<CriarEsporteDTO> itens) {
+        List<ResultadoLoteDTO> resultados = new ArrayList<>(itens.size());
+        List<Esporte> validos = new ArrayList<>();
+        List<IndiceNomeEsporte.Reserva> reservas = new ArrayList<>();
+        List<Integer> indicesValidos = new ArrayList<>();
+        
+        for (int i = 0; i < itens.size(); i++) {
+            CriarEsporteDTO item = itens.get(i);
+            if (item == null || item.getNome() == null || item.getNome().isBlank()) {
+                resultados.add(ResultadoLoteDTO.erro(i, "Nome do esporte é obrigatório"));
+            } else if (item.getCategoria() == null || item.getCategoria().isBlank()) {
+                resultados.add(ResultadoLoteDTO.erro(i, "Categoria do esporte é obrigatória"));
+            } else {
+                IndiceNomeEsporte.Reserva reserva = indiceNomeEsporte.reservar(item.getNome());
+                if (reserva != null) {
+                    validos.add(new Esporte(item.getNome(), null));
+                    reservas.add(reserva);
+                    indicesValidos.add(i);
+                    resultados.add(null);
+                } else {
+                    resultados.add(ResultadoLoteDTO.erro(i, "Já existe um esporte com o nome: " + item.getNome()));
+                }
+            }
+        }
+        
+        confirmarReservasAoFinal(reservas, validos);
+        for (int i = 0; i < validos.size(); i++) {
+            validos.get(i).setCategoria(dicionarioCategorias.codificar(itens.get(indicesValidos.get(i)).getCategoria()));
+        }
+        
+        List<Esporte> salvos = esporteRepository.saveAll(validos);
+        for (int i = 0; i < salvos.size(); i++) {
+            int indice = indicesValidos.get(i);
+            resultados.set(indice, ResultadoLoteDTO.sucesso(indice, salvos.get(i).getId()));
+        }
+        return resultados;
+    }
+    
     public List<Esporte> listarTodos() {
         return esporteRepository.findAll();
     }
     
+    /**
+     * Página por cursor: até {@code limite} esportes com ID maior que {@code aposId}.
+     * O custo independe da posição da página, ao contrário de OFFSET.
+     */
+    public List<Esporte> listarPagina(Long aposId, int limite) {
+        return esporteRepository.findByIdGreaterThanOrderByIdAsc(aposId != null ? aposId : 0L, Limit.of(limite));
+    }
+    
+    /**
+     * Entrega todos os esportes ao consumidor, um a um, a partir de um Stream JPA.
+     * Cada entidade é desanexada após o uso para manter o contexto de persistência
+     * (e o heap) constante independentemente do número de linhas.
+     */
+    @Transactional(readOnly = true)
+    public void percorrerTodos(Consumer<Esporte> consumidor) {
+        try (Stream<Esporte> esportes = esporteRepository.streamAllByOrderByIdAsc()) {
+            esportes.forEach(esporte -> {
+                consumidor.accept(esporte);
+                entityManager.detach(esporte);
+            });
+        }
+    }
+    
     public Optional<Esporte> buscarPorId(Long id) {
         return esporteRepository.findById(id);
     }
     
+    /**
+     * O nome da categoria é traduzido para o código uma única vez;
+     * a consulta compara apenas inteiros.
+     */
     public List<Esporte> buscarPorCategoria(String categoria) {
-        return esporteRepository.findByCategoria(categoria);
+        return dicionarioCategorias.buscar(categoria)
+                .map(encontrada -> esporteRepository.findByCategoriaId(encontrada.getId()))
+                .orElse(List.of());
     }
     
+    /**
+     * O índice em memória resolve o nome (ignorando acentos e caixa) no ID, e o esporte
+     * vem do repositório pelo ID, servido pelo cache quando habilitado.
+     */
     public Optional<Esporte> buscarPorNome(String nome) {
-        return esporteRepository.findByNome(nome);
+        return indiceNomeEsporte.buscar(nome).flatMap(esporteRepository::findById);
     }
     
+    /**
+     * Atualização sem pré-condição do cliente: lê, altera e grava. A versão lida é
+     * conferida no UPDATE, então uma alteração concorrente entre a leitura e a gravação
+     * gera OptimisticLockingFailureException em vez de ser sobrescrita.
+     * @throws DuplicateKeyException se o novo nome já pertence a outro esporte
+     */
+    @Transactional
     public Esporte atualizarEsporte(Long id, String nome, String categoria) {
+        if (nome == null || nome.isBlank()) {
+            throw new IllegalArgumentException("Nome do esporte é obrigatório");
+        }
         Optional<Esporte> esporteExistente = esporteRepository.findById(id);
         if (esporteExistente.isPresent()) {
             Esporte esporte = esporteExistente.get();
-            esporte.setNome(nome);
-            esporte.setCategoria(categoria);
-            return esporteRepository.save(esporte);
+            boolean renomeado = !NormalizadorTexto.normalizar(esporte.getNome())
+                    .equals(NormalizadorTexto.normalizar(nome));
+            IndiceNomeEsporte.Reserva reserva = renomeado ? indiceNomeEsporte.reservar(nome) : null;
+            if (renomeado && reserva == null) {
+                throw new DuplicateKeyException("Já existe um esporte com o nome: " + nome);
+            }
+            Esporte salvo;
+            try {
+                esporte.setNome(nome);
+                esporte.setCategoria(dicionarioCategorias.codificar(categoria));
+                salvo = esporteRepository.save(esporte);
+            } catch (RuntimeException e) {
+                if (reserva != null) {
+                    indiceNomeEsporte.liberar(reserva);
+                }
+                throw e;
+            }
+            atualizarIndiceAoFinal(id, nome, reserva);
+            return salvo;
         }
         throw new RuntimeException("Esporte não encontrado com ID: " + id);
     }
     
+    /**
+     * Atualização condicional (If-Match): um único UPDATE ... WHERE id = ? AND versao = ?,
+     * sem leitura prévia. O banco só é consultado de novo quando nenhuma linha foi
+     * alterada, para distinguir esporte inexistente de versão desatualizada.
+     * @throws OptimisticLockingFailureException se a versão atual não é a esperada
+     * @throws DuplicateKeyException se o novo nome já pertence a outro esporte
+     */
+    @Transactional
+    public Esporte atualizarEsporteSeVersao(Long id, String nome, String categoria, long versaoEsperada) {
+        if (nome == null || nome.isBlank()) {
+            throw new IllegalArgumentException("Nome do esporte é obrigatório");
+        }
+        Esporte atualizado = new Esporte(id, nome, null);
+        String nomeNormalizado = NormalizadorTexto.normalizar(nome);
+        // O nome atual vem do índice em memória, que tem todos os esportes gravados; o banco
+        // só é consultado se o ID não estiver lá (inexistente ou cadastro ainda não publicado)
+        Optional<String> nomeAtual = indiceNomeEsporte.nomeNormalizado(id);
+        if (nomeAtual.isEmpty() && !esporteRepository.existsById(id)) {
+            throw new RuntimeException("Esporte não encontrado com ID: " + id);
+        }
+        boolean renomeado = !nomeNormalizado.equals(nomeAtual.orElse(null));
+        IndiceNomeEsporte.Reserva reserva = renomeado ? indiceNomeEsporte.reservar(nome) : null;
+        if (renomeado && reserva == null) {
+            throw new DuplicateKeyException("Já existe um esporte com o nome: " + nome);
+        }
+        atualizarIndiceAoFinal(id, nome, reserva);
+        
+        Categoria categoriaCodificada = dicionarioCategorias.codificar(categoria);
+        atualizado.setCategoria(categoriaCodificada);
+        int linhas = esporteRepository.atualizarSeVersao(id, nome, nomeNormalizado, categoriaCodificada, versaoEsperada);
+        if (linhas == 0) {
+            if (esporteRepository.existsById(id)) {
+                throw new OptimisticLockingFailureException(
+                        "Esporte " + id + " foi alterado por outra requisição (versão esperada: " + versaoEsperada + ")");
+            }
+            throw new RuntimeException("Esporte não encontrado com ID: " + id);
+        }
+        
+        atualizado.setVersao(versaoEsperada + 1);
+        return atualizado;
+    }
+    
+    /**
+     * Um único DELETE; a contagem de linhas excluídas indica se o esporte existia.
+     */
     public void excluirEsporte(Long id) {
-        if (esporteRepository.existsById(id)) {
-            esporteRepository.deleteById(id);
-        } else {
+        if (esporteRepository.excluirPorId(id) == 0) {
             throw new RuntimeException("Esporte não encontrado com ID: " + id);
         }
+        indiceNomeEsporte.remover(id);
+    }
+    
+    /**
+     * Exclui todos os IDs informados com um único DELETE ... WHERE id IN (...).
+     * @return Quantidade de esportes efetivamente excluídos
+     */
+    public int excluirEsportes(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int excluidos = esporteRepository.excluirPorIds(ids);
+        for (Long id : ids) {
+            indiceNomeEsporte.remover(id);
+        }
+        return excluidos;
+    }
+    
+    /**
+     * O índice de nomes só é confirmado após o commit; em rollback as reservas são desfeitas
+     */
+    private void confirmarReservasAoFinal(List<IndiceNomeEsporte.Reserva> reservas, List<Esporte> esportes) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                for (int i = 0; i < reservas.size(); i++) {
+                    if (status == STATUS_COMMITTED) {
+                        indiceNomeEsporte.registrar(reservas.get(i), esportes.get(i).getId());
+                    } else {
+                        indiceNomeEsporte.liberar(reservas.get(i));
+                    }
+                }
+            }
+        });
+    }
+    
+    /**
+     * Após o commit, o esporte passa a ocupar no índice o nome gravado; em rollback,
+     * a reserva do novo nome (se houve renomeação) é desfeita
+     */
+    private void atualizarIndiceAoFinal(Long id, String nome, IndiceNomeEsporte.Reserva reservaNovoNome) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    indiceNomeEsporte.substituir(id, nome);
+                } else if (reservaNovoNome != null) {
+                    indiceNomeEsporte.liberar(reservaNovoNome);
+                }
+            }
+        });
     }
-}
\ No newline at end of file
+}
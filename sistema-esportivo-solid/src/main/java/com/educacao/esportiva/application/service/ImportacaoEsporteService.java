@@ -0,0 +1,156 @@
+package com.educacao.esportiva.application.service;
+
+import com.educacao.esportiva.application.dto.CriarEsporteDTO;
+import com.educacao.esportiva.application.dto.ResultadoLoteDTO;
+import com.educacao.esportiva.application.dto.ResumoImportacaoDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Serviço de importação em massa de Esporte.
+ * Consome as linhas incrementalmente e grava em lotes de tamanho fixo, cada um em
+ * sua própria transação, mantendo o uso de memória limitado ao tamanho do lote.
+ * 
+ * Cada linha é interpretada isoladamente: uma linha com JSON inválido é rejeitada
+ * no resumo, assim como um lote cuja gravação falha, e a importação continua.
+ * Como os lotes anteriores já foram confirmados, o resumo é sempre devolvido.
+ * O cadastro em lote NDJSON usa o mesmo processamento, com o resultado de cada linha.
+ */
+@Service
+@Profile("!reativo")
+public class ImportacaoEsporteService {
+    
+    @Autowired
+    private EsporteService esporteService;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Value("${esportes.importacao.tamanho-lote:500}")
+    private int tamanhoLote;
+    
+    public ResumoImportacaoDTO importar(BufferedReader leitor) throws IOException {
+        ResumoImportacaoDTO resumo = new ResumoImportacaoDTO();
+        gravarEmLotes(leitor, resumo::registrar);
+        return resumo;
+    }
+    
+    /**
+     * Cadastro em lote NDJSON (POST /api/esportes/batch): mesmo processamento da importação,
+     * devolvendo o resultado de cada linha não vazia na ordem recebida (índice a partir de 0)
+     */
+    public List<ResultadoLoteDTO> cadastrarEmLotes(BufferedReader leitor) throws IOException {
+        List<ResultadoLoteDTO> resultados = new ArrayList<>();
+        gravarEmLotes(leitor, (numeroLinha, resultado) -> resultados.add(resultado));
+        return resultados;
+    }
+    
+    /**
+     * Lê as linhas conforme chegam e grava um lote a cada {@code tamanhoLote} linhas,
+     * entregando ao destino o resultado de cada uma, na ordem do corpo
+     */
+    private void gravarEmLotes(BufferedReader leitor, BiConsumer<Long, ResultadoLoteDTO> destino) throws IOException {
+        ObjectReader leitorEsporte = objectMapper.readerFor(CriarEsporteDTO.class);
+        Lote lote = new Lote(tamanhoLote);
+        long numeroLinha = 0;
+        int indice = 0;
+        
+        String linha;
+        while ((linha = leitor.readLine()) != null) {
+            numeroLinha++;
+            if (linha.isBlank()) {
+                continue;
+            }
+            try {
+                lote.adicionar(numeroLinha, indice, leitorEsporte.readValue(linha));
+            } catch (JsonProcessingException e) {
+                lote.rejeitar(numeroLinha, indice, "JSON inválido (" + e.getOriginalMessage() + ")");
+            }
+            indice++;
+            if (lote.linhas.size() == tamanhoLote) {
+                gravarLote(lote, destino);
+            }
+        }
+        if (!lote.linhas.isEmpty()) {
+            gravarLote(lote, destino);
+        }
+    }
+    
+    private void gravarLote(Lote lote, BiConsumer<Long, ResultadoLoteDTO> destino) {
+        if (!lote.itens.isEmpty()) {
+            try {
+                for (ResultadoLoteDTO resultado : esporteService.criarEsportesEmLote(lote.itens)) {
+                    int posicao = lote.posicoesDosItens.get(resultado.getIndice());
+                    resultado.setIndice(lote.indices.get(posicao));
+                    lote.resultados.set(posicao, resultado);
+                }
+            } catch (RuntimeException e) {
+                // A transação do lote foi desfeita; os lotes anteriores continuam gravados
+                for (int posicao : lote.posicoesDosItens) {
+                    lote.resultados.set(posicao,
+                            ResultadoLoteDTO.erro(lote.indices.get(posicao), "lote não gravado (" + e.getMessage() + ")"));
+                }
+            }
+        }
+        for (int i = 0; i < lote.linhas.size(); i++) {
+            destino.accept(lote.linhas.get(i), lote.resultados.get(i));
+        }
+        lote.limpar();
+    }
+    
+    /**
+     * Linhas do lote em leitura, com o índice do item e o resultado de cada uma
+     * (o erro de JSON inválido, ou null até a gravação do lote)
+     */
+    private static final class Lote {
+        
+        private final List<Long> linhas;
+        private final List<Integer> indices;
+        private final List<ResultadoLoteDTO> resultados;
+        private final List<CriarEsporteDTO> itens;
+        private final List<Integer> posicoesDosItens;
+        
+        private Lote(int tamanho) {
+            linhas = new ArrayList<>(tamanho);
+            indices = new ArrayList<>(tamanho);
+            resultados = new ArrayList<>(tamanho);
+            itens = new ArrayList<>(tamanho);
+            posicoesDosItens = new ArrayList<>(tamanho);
+        }
+        
+        private void adicionar(long numeroLinha, int indice, CriarEsporteDTO item) {
+            posicoesDosItens.add(linhas.size());
+            itens.add(item);
+            registrar(numeroLinha, indice, null);
+        }
+        
+        private void rejeitar(long numeroLinha, int indice, String erro) {
+            registrar(numeroLinha, indice, ResultadoLoteDTO.erro(indice, erro));
+        }
+        
+        private void registrar(long numeroLinha, int indice, ResultadoLoteDTO resultado) {
+            linhas.add(numeroLinha);
+            indices.add(indice);
+            resultados.add(resultado);
+        }
+        
+        private void limpar() {
+            linhas.clear();
+            indices.clear();
+            resultados.clear();
+            itens.clear();
+            posicoesDosItens.clear();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.educacao.esportiva.application.service;
+
+import com.educacao.esportiva.domain.Esporte;
+import com.educacao.esportiva.domain.NormalizadorTexto;
+import com.educacao.esportiva.domain.repository.EsporteRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Índice em memória de nomes únicos de Esporte (nome normalizado -> ID).
+ *
+ * Torna a verificação de duplicidade O(1) e atômica com a inserção
+ * (reserva via putIfAbsent) e resolve buscas por nome sem consulta ao banco;
+ * a entidade vem do repositório (e do seu cache), não é mantida aqui.
+ * Um nome reservado e ainda não gravado aponta para um marcador negativo,
+ * único por reserva, que nunca coincide com um ID.
+ */
+@Component
+@Profile("!reativo")
+public class IndiceNomeEsporte {
+
+    private final Map<String, Long> idsPorNome = new ConcurrentHashMap<>();
+    private final Map<Long, String> nomesPorId = new ConcurrentHashMap<>();
+    private final AtomicLong ultimaReserva = new AtomicLong();
+
+    @Autowired
+    private EsporteRepository esporteRepository;
+
+    /**
+     * Nome reservado por uma gravação em andamento, a ser registrado ou liberado ao final
+     */
+    public static final class Reserva {
+
+        private final String nome;
+        private final Long marcador;
+
+        private Reserva(String nome, Long marcador) {
+            this.nome = nome;
+            this.marcador = marcador;
+        }
+    }
+
+    /**
+     * Carrega o índice com os esportes já persistidos (inclusive os do DataInitializer)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        for (Esporte esporte : esporteRepository.findAll()) {
+            publicar(NormalizadorTexto.normalizar(esporte.getNome()), esporte.getId());
+        }
+    }
+
+    /**
+     * Reserva o nome antes da gravação
+     * @return Reserva, ou null se o nome normalizado já pertence a outro esporte
+     */
+    public Reserva reservar(String nome) {
+        Reserva reserva = new Reserva(NormalizadorTexto.normalizar(nome), ultimaReserva.decrementAndGet());
+        return idsPorNome.putIfAbsent(reserva.nome, reserva.marcador) == null ? reserva : null;
+    }
+
+    /**
+     * Desfaz uma reserva cuja gravação falhou
+     */
+    public void liberar(Reserva reserva) {
+        idsPorNome.remove(reserva.nome, reserva.marcador);
+    }
+
+    /**
+     * Publica no nome reservado o ID do esporte já gravado
+     */
+    public void registrar(Reserva reserva, Long id) {
+        publicar(reserva.nome, id);
+    }
+
+    /**
+     * Publica o nome atual de um esporte renomeado no lugar da entrada anterior.
+     * O novo nome passa a apontar para o ID antes de o antigo ser liberado: não há
+     * instante em que o esporte fique sem nome no índice e um cadastro concorrente
+     * consiga reservá-lo.
+     */
+    public void substituir(Long id, String nome) {
+        String atual = NormalizadorTexto.normalizar(nome);
+        String anterior = publicar(atual, id);
+        if (anterior != null && !anterior.equals(atual)) {
+            idsPorNome.remove(anterior, id);
+        }
+    }
+
+    /**
+     * Remove do índice o nome atualmente associado ao ID
+     */
+    public void remover(Long id) {
+        String nome = nomesPorId.remove(id);
+        if (nome != null) {
+            idsPorNome.remove(nome, id);
+        }
+    }
+
+    /**
+     * @return Nome normalizado atualmente associado ao ID, se o esporte está no índice
+     */
+    public Optional<String> nomeNormalizado(Long id) {
+        return Optional.ofNullable(nomesPorId.get(id));
+    }
+
+    /**
+     * Busca por nome ignorando acentos e caixa; reservas ainda não gravadas são ignoradas
+     * @return ID do esporte com o nome
+     */
+    public Optional<Long> buscar(String nome) {
+        return Optional.ofNullable(idsPorNome.get(NormalizadorTexto.normalizar(nome)))
+                .filter(id -> id > 0);
+    }
+
+    /**
+     * @return Nome anteriormente associado ao ID
+     */
+    private String publicar(String nome, Long id) {
+        idsPorNome.put(nome, id);
+        return nomesPorId.put(id, nome);
+    }
+}
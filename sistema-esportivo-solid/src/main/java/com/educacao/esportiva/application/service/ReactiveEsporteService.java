@@ -0,0 +1,107 @@
+package com.educacao.esportiva.application.service;
+
+import com.educacao.esportiva.domain.Categoria;
+import com.educacao.esportiva.domain.Esporte;
+import com.educacao.esportiva.domain.repository.ReactiveEsporteRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * Serviço não bloqueante para operações com Esporte (perfil "reativo").
+ * A unicidade do nome é garantida pela constraint do banco (nome_normalizado).
+ */
+@Service
+@Profile("reativo")
+public class ReactiveEsporteService {
+    
+    @Autowired
+    private ReactiveEsporteRepository esporteRepository;
+    
+    public Mono<Esporte> criarEsporte(String nome, String categoria) {
+        if (!camposPreenchidos(nome, categoria)) {
+            return Mono.error(new IllegalArgumentException("Nome e categoria do esporte são obrigatórios"));
+        }
+        return esporteRepository.save(new Esporte(nome, new Categoria(categoria)))
+                .onErrorMap(DataIntegrityViolationException.class,
+                        e -> new IllegalArgumentException("Já existe um esporte com o nome: " + nome));
+    }
+    
+    public Flux<Esporte> listarTodos() {
+        return esporteRepository.findAll();
+    }
+    
+    public Mono<Esporte> buscarPorId(Long id) {
+        return esporteRepository.findById(id);
+    }
+    
+    public Flux<Esporte> buscarPorCategoria(String categoria) {
+        return esporteRepository.findByCategoria(categoria);
+    }
+    
+    public Mono<Esporte> buscarPorNome(String nome) {
+        return esporteRepository.findByNome(nome);
+    }
+    
+    /**
+     * Lê a versão atual e grava condicionalmente a ela, como o EsporteService.
+     * @return Esporte atualizado, ou vazio se não existir; falha com
+     *         OptimisticLockingFailureException se outra atualização ocorreu entre a leitura
+     *         e a gravação, e com DuplicateKeyException se o nome pertence a outro esporte
+     */
+    public Mono<Esporte> atualizarEsporte(Long id, String nome, String categoria) {
+        if (!camposPreenchidos(nome, categoria)) {
+            return Mono.error(new IllegalArgumentException("Nome e categoria do esporte são obrigatórios"));
+        }
+        return esporteRepository.findById(id)
+                .flatMap(atual -> gravar(id, nome, categoria, atual.getVersao()));
+    }
+    
+    /**
+     * Atualiza somente se a versão gravada for a informada (If-Match), em um único UPDATE.
+     * @return Esporte atualizado, ou vazio se não existir; falha com
+     *         OptimisticLockingFailureException se a versão for outra
+     */
+    public Mono<Esporte> atualizarEsporteSeVersao(Long id, String nome, String categoria, long versao) {
+        if (!camposPreenchidos(nome, categoria)) {
+            return Mono.error(new IllegalArgumentException("Nome e categoria do esporte são obrigatórios"));
+        }
+        // Nenhuma linha alterada: distingue esporte inexistente (vazio) de versão desatualizada
+        return gravar(id, nome, categoria, versao)
+                .onErrorResume(OptimisticLockingFailureException.class,
+                        e -> esporteRepository.findById(id).flatMap(atual -> Mono.error(e)));
+    }
+    
+    private Mono<Esporte> gravar(Long id, String nome, String categoria, Long versao) {
+        Esporte esporte = new Esporte(id, nome, new Categoria(categoria));
+        esporte.setVersao(versao);
+        return esporteRepository.save(esporte)
+                .onErrorMap(DataIntegrityViolationException.class,
+                        e -> new DuplicateKeyException("Já existe um esporte com o nome: " + nome, e));
+    }
+    
+    /**
+     * @return true se o esporte existia e foi excluído
+     */
+    public Mono<Boolean> excluirEsporte(Long id) {
+        return esporteRepository.deleteById(id);
+    }
+    
+    /**
+     * @return Quantidade de esportes efetivamente excluídos
+     */
+    public Mono<Long> excluirEsportes(Collection<Long> ids) {
+        return ids.isEmpty() ? Mono.just(0L) : esporteRepository.deleteAllById(ids);
+    }
+    
+    private static boolean camposPreenchidos(String nome, String categoria) {
+        return nome != null && !nome.isBlank() && categoria != null && !categoria.isBlank();
+    }
+}
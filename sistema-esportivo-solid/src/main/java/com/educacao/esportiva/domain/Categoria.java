@@ -0,0 +1,81 @@
+package com.educacao.esportiva.domain;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
+
+/**
+ * ENTIDADE CATEGORIA
+ * 
+ * Dicionário das categorias de esporte (ex: Coletivo, Individual, Aquático).
+ * Cada nome distinto recebe um código inteiro pequeno (id); os esportes guardam
+ * apenas esse código, de modo que filtros e agrupamentos comparam inteiros
+ * em vez de textos.
+ * 
+ * Atributos:
+ * - id: Código da categoria
+ * - nome: Nome da categoria, único sem considerar acentos e caixa
+ */
+@Entity
+@Table(name = "categorias",
+       uniqueConstraints = @UniqueConstraint(name = "uk_categorias_nome_normalizado", columnNames = "nome_normalizado"))
+@BatchSize(size = 100)
+public class Categoria {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+    
+    @Column(nullable = false, length = 50)
+    private String nome;
+    
+    // Nome sem acentos e em minúsculas: chave de busca do dicionário ("Coletivo" == "coletivo")
+    @Column(name = "nome_normalizado", nullable = false, length = 50)
+    private String nomeNormalizado;
+    
+    // Construtores
+    public Categoria() {}
+    
+    /**
+     * Categoria ainda sem código (atribuído ao ser gravada no dicionário)
+     * @param nome Nome da categoria
+     */
+    public Categoria(String nome) {
+        this.nome = nome;
+    }
+    
+    /**
+     * @param id Código da categoria
+     * @param nome Nome da categoria
+     */
+    public Categoria(Integer id, String nome) {
+        this.id = id;
+        this.nome = nome;
+    }
+    
+    /**
+     * @return Código da categoria
+     */
+    public Integer getId() {
+        return id;
+    }
+    
+    /**
+     * @return Nome da categoria
+     */
+    public String getNome() {
+        return nome;
+    }
+    
+    @PrePersist
+    void normalizarNome() {
+        this.nomeNormalizado = NormalizadorTexto.normalizar(nome);
+    }
+    
+    @Override
+    public String toString() {
+        return "Categoria{" +
+                "id=" + id +
+                ", nome='" + nome + '\'' +
+                '}';
+    }
+}
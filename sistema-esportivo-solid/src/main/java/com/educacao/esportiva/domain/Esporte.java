@@ -11,21 +11,44 @@ import jakarta.persistence.*;
  * Atributos:
  * - id: Identificador único do esporte
  * - nome: Nome da modalidade (ex: Vôlei, Basquete, Futebol)
- * - categoria: Tipo de esporte (ex: Coletivo, Individual, Aquático)
+ * - categoria: Tipo de esporte (ex: Coletivo, Individual, Aquático), guardado como
+ *   código do dicionário de categorias; no JSON continua sendo o nome
+ * - versao: Versão para controle de concorrência otimista (exposta como ETag)
  */
 @Entity
-@Table(name = "esportes")
+@Table(name = "esportes",
+       indexes = {
+           @Index(name = "idx_esportes_nome", columnList = "nome"),
+           @Index(name = "idx_esportes_categoria_id", columnList = "categoria_id")
+       },
+       uniqueConstraints = @UniqueConstraint(name = "uk_esportes_nome_normalizado", columnNames = "nome_normalizado"))
 public class Esporte {
     
+    // Sequência com alocação em blocos (pooled): permite que o Hibernate agrupe
+    // os INSERTs em lote (hibernate.jdbc.batch_size), o que IDENTITY impede
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "esportes_seq")
+    @SequenceGenerator(name = "esportes_seq", sequenceName = "esportes_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, length = 100)
     private String nome;
     
-    @Column(nullable = false, length = 50)
-    private String categoria;
+    // Carregada junto com o esporte: os poucos códigos distintos são resolvidos
+    // em lote (@BatchSize em Categoria) e compartilhados no contexto de persistência
+    @ManyToOne(optional = false)
+    @JoinColumn(name = "categoria_id", nullable = false)
+    private Categoria categoria;
+    
+    // Nome sem acentos e em minúsculas; garante unicidade no banco ("Vôlei" == "volei")
+    @Column(name = "nome_normalizado", nullable = false, length = 100)
+    private String nomeNormalizado;
+    
+    // Incrementada a cada UPDATE; atualizações feitas sobre uma versão antiga falham
+    // em vez de sobrescrever silenciosamente a alteração concorrente
+    @Version
+    @Column(nullable = false)
+    private Long versao;
 
     // Construtores
     public Esporte() {}
@@ -35,7 +58,7 @@ public class Esporte {
      * @param nome Nome da modalidade esportiva
      * @param categoria Categoria do esporte (Coletivo/Individual/etc)
      */
-    public Esporte(String nome, String categoria) {
+    public Esporte(String nome, Categoria categoria) {
         this.nome = nome;
         this.categoria = categoria;
     }
@@ -46,7 +69,7 @@ public class Esporte {
      * @param nome Nome da modalidade esportiva
      * @param categoria Categoria do esporte (Coletivo/Individual/etc)
      */
-    public Esporte(Long id, String nome, String categoria) {
+    public Esporte(Long id, String nome, Categoria categoria) {
         this.id = id;
         this.nome = nome;
         this.categoria = categoria;
@@ -77,22 +100,58 @@ public class Esporte {
     }
 
     /**
-     * @return Categoria do esporte (ex: Coletivo, Individual)
+     * @return Nome da categoria do esporte (ex: Coletivo, Individual)
      */
     public String getCategoria() {
-        return categoria;
+        return categoria != null ? categoria.getNome() : null;
     }
 
-    public void setCategoria(String categoria) {
+    /**
+     * @return Código da categoria no dicionário
+     */
+    public Integer getCodigoCategoria() {
+        return categoria != null ? categoria.getId() : null;
+    }
+
+    public void setCategoria(Categoria categoria) {
         this.categoria = categoria;
     }
 
+    /**
+     * @return Versão atual do registro (0 na criação)
+     */
+    public Long getVersao() {
+        return versao;
+    }
+
+    public void setVersao(Long versao) {
+        this.versao = versao;
+    }
+
+    /**
+     * @return Cópia desanexada (mesmo id, nome, categoria e versão), que pode ser
+     *         alterada sem afetar a instância original
+     */
+    public Esporte copia() {
+        Esporte copia = new Esporte(id, nome, categoria);
+        copia.nomeNormalizado = nomeNormalizado;
+        copia.versao = versao;
+        return copia;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void normalizarNome() {
+        this.nomeNormalizado = NormalizadorTexto.normalizar(nome);
+    }
+
     @Override
     public String toString() {
         return "Esporte{" +
                 "id=" + id +
                 ", nome='" + nome + '\'' +
-                ", categoria='" + categoria + '\'' +
+                ", categoria='" + getCategoria() + '\'' +
+                ", versao=" + versao +
                 '}';
     }
 }
\ No newline at end of file
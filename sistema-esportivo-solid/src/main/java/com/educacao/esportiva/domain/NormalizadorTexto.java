@@ -0,0 +1,21 @@
+package com.educacao.esportiva.domain;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normalização de textos usados como chave de busca.
+ * Remove acentos, espaços nas bordas e diferenças de caixa ("Vôlei" == "volei").
+ */
+public final class NormalizadorTexto {
+
+    private static final Pattern MARCAS_DIACRITICAS = Pattern.compile("\\p{M}+");
+
+    private NormalizadorTexto() {}
+
+    public static String normalizar(String texto) {
+        String decomposto = Normalizer.normalize(texto.trim(), Normalizer.Form.NFD);
+        return MARCAS_DIACRITICAS.matcher(decomposto).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,18 @@
+package com.educacao.esportiva.domain.repository;
+
+import com.educacao.esportiva.domain.Categoria;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Interface simples do repositório do dicionário de categorias.
+ */
+public interface CategoriaRepository {
+    
+    Categoria save(Categoria categoria);
+    
+    Optional<Categoria> findByNomeNormalizado(String nomeNormalizado);
+    
+    List<Categoria> findAll();
+}
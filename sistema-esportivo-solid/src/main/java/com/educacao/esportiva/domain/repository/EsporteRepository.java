@@ -1,8 +1,13 @@
 package com.educacao.esportiva.domain.repository;
 
+import com.educacao.esportiva.domain.Categoria;
 import com.educacao.esportiva.domain.Esporte;
+import org.springframework.data.domain.Limit;
+
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Interface simples do repositório de Esporte.
@@ -11,15 +16,48 @@ public interface EsporteRepository {
     
     Esporte save(Esporte esporte);
     
+    <S extends Esporte> List<S> saveAll(Iterable<S> esportes);
+    
     Optional<Esporte> findById(Long id);
     
     List<Esporte> findAll();
     
-    List<Esporte> findByCategoria(String categoria);
+    /**
+     * Paginação por cursor (keyset): próximos registros com ID maior que o informado.
+     */
+    List<Esporte> findByIdGreaterThanOrderByIdAsc(Long id, Limit limite);
+    
+    /**
+     * Leitura incremental de todos os registros em ordem de ID.
+     * Deve ser consumida dentro de uma transação e fechada ao final.
+     */
+    Stream<Esporte> streamAllByOrderByIdAsc();
+    
+    /**
+     * Busca pelo código da categoria (comparação de inteiros, coluna indexada).
+     */
+    List<Esporte> findByCategoriaId(Integer codigoCategoria);
     
     Optional<Esporte> findByNome(String nome);
     
-    void deleteById(Long id);
+    /**
+     * Atualização condicional em uma única instrução, sem leitura prévia: grava nome e
+     * categoria e incrementa a versão somente se a versão atual ainda for a informada.
+     * @return Linhas alteradas (0 se o esporte não existe ou foi alterado por outro)
+     */
+    int atualizarSeVersao(Long id, String nome, String nomeNormalizado, Categoria categoria, Long versao);
+    
+    /**
+     * Exclusão em uma única instrução (DELETE ... WHERE id = ?), sem carregar a entidade.
+     * @return Linhas excluídas (0 se o esporte não existe)
+     */
+    int excluirPorId(Long id);
+    
+    /**
+     * Exclui vários esportes em uma única instrução (DELETE ... WHERE id IN (...)).
+     * @return Linhas excluídas; IDs inexistentes são ignorados
+     */
+    int excluirPorIds(Collection<Long> ids);
     
     boolean existsById(Long id);
 }
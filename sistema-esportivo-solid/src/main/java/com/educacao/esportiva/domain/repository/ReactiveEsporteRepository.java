@@ -0,0 +1,42 @@
+package com.educacao.esportiva.domain.repository;
+
+import com.educacao.esportiva.domain.Esporte;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * Interface não bloqueante do repositório de Esporte (perfil "reativo").
+ */
+public interface ReactiveEsporteRepository {
+    
+    /**
+     * A categoria pode vir sem código; ela é resolvida (ou criada) pelo nome.
+     * Com ID, atualiza o esporte somente se a versão gravada for a do objeto informado;
+     * caso contrário (ou se o esporte não existir), falha com OptimisticLockingFailureException.
+     */
+    Mono<Esporte> save(Esporte esporte);
+    
+    Mono<Esporte> findById(Long id);
+    
+    Flux<Esporte> findAll();
+    
+    Flux<Esporte> findByCategoria(String categoria);
+    
+    /**
+     * Busca pelo nome normalizado (ignora acentos e caixa).
+     */
+    Mono<Esporte> findByNome(String nome);
+    
+    /**
+     * @return true se um registro foi excluído
+     */
+    Mono<Boolean> deleteById(Long id);
+    
+    /**
+     * Exclui vários registros em uma única instrução.
+     * @return Quantidade de registros excluídos
+     */
+    Mono<Long> deleteAllById(Collection<Long> ids);
+}
@@ -0,0 +1,215 @@
+package com.educacao.esportiva.infrastructure.cache;
+
+import com.educacao.esportiva.domain.Categoria;
+import com.educacao.esportiva.domain.Esporte;
+import com.educacao.esportiva.domain.repository.EsporteRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Decorador de cache (read-through) para o repositório de Esporte.
+ *
+ * Atende findById e findByCategoriaId a partir de caches Caffeine limitados por
+ * tamanho (eviction W-TinyLFU) e com expiração (TTL). A busca por nome é resolvida
+ * pelo IndiceNomeEsporte em um ID e também é atendida por findById. Pode ser desligado com
+ * esportes.cache.habilitado=false, caso em que o JpaEsporteRepository é injetado diretamente.
+ *
+ * O cache guarda cópias desanexadas e entrega uma cópia nova a cada leitura: quem
+ * altera o esporte lido (ex.: atualizarEsporte) não afeta os demais leitores.
+ * Toda escrita invalida as entradas afetadas na hora e de novo ao final da
+ * transação em andamento (commit ou rollback), para que uma leitura feita antes
+ * do fim não deixe no cache dados antigos nem dados que foram desfeitos.
+ *
+ * Como MeterBinder, publica acertos, faltas, evictions e tamanho de cada cache
+ * (cache.gets, cache.evictions, cache.size com a tag cache=esportes.porId etc.).
+ */
+@Repository
+@Primary
+@Profile("!reativo")
+@ConditionalOnProperty(name = "esportes.cache.habilitado", havingValue = "true", matchIfMissing = true)
+public class EsporteRepositoryComCache implements EsporteRepository, MeterBinder {
+    
+    private final EsporteRepository delegate;
+    private final Cache<Long, Esporte> porId;
+    private final Cache<Integer, List<Esporte>> porCategoria;
+    
+    public EsporteRepositoryComCache(@Qualifier("jpaEsporteRepository") EsporteRepository delegate,
+                                     @Value("${esportes.cache.tamanho-maximo:10000}") long tamanhoMaximo,
+                                     @Value("${esportes.cache.ttl:10m}") Duration ttl) {
+        this.delegate = delegate;
+        this.porId = novoCache(tamanhoMaximo, ttl);
+        this.porCategoria = novoCache(tamanhoMaximo, ttl);
+    }
+    
+    private static <K, V> Cache<K, V> novoCache(long tamanhoMaximo, Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+    
+    @Override
+    public Esporte save(Esporte esporte) {
+        try {
+            return delegate.save(esporte);
+        } finally {
+            invalidar(esporte.getId());
+        }
+    }
+    
+    @Override
+    public <S extends Esporte> List<S> saveAll(Iterable<S> esportes) {
+        try {
+            return delegate.saveAll(esportes);
+        } finally {
+            invalidarTudo();
+        }
+    }
+    
+    @Override
+    public Optional<Esporte> findById(Long id) {
+        return Optional.ofNullable(porId.get(id, chave -> delegate.findById(chave).map(Esporte::copia).orElse(null)))
+                .map(Esporte::copia);
+    }
+    
+    @Override
+    public List<Esporte> findAll() {
+        return delegate.findAll();
+    }
+    
+    @Override
+    public List<Esporte> findByIdGreaterThanOrderByIdAsc(Long id, Limit limite) {
+        return delegate.findByIdGreaterThanOrderByIdAsc(id, limite);
+    }
+    
+    @Override
+    public Stream<Esporte> streamAllByOrderByIdAsc() {
+        return delegate.streamAllByOrderByIdAsc();
+    }
+    
+    @Override
+    public List<Esporte> findByCategoriaId(Integer codigoCategoria) {
+        return copiar(porCategoria.get(codigoCategoria, chave -> copiar(delegate.findByCategoriaId(chave))));
+    }
+    
+    @Override
+    public Optional<Esporte> findByNome(String nome) {
+        return delegate.findByNome(nome);
+    }
+    
+    @Override
+    public int atualizarSeVersao(Long id, String nome, String nomeNormalizado, Categoria categoria, Long versao) {
+        try {
+            return delegate.atualizarSeVersao(id, nome, nomeNormalizado, categoria, versao);
+        } finally {
+            invalidar(id);
+        }
+    }
+    
+    @Override
+    public int excluirPorId(Long id) {
+        try {
+            return delegate.excluirPorId(id);
+        } finally {
+            invalidar(id);
+        }
+    }
+    
+    @Override
+    public int excluirPorIds(Collection<Long> ids) {
+        try {
+            return delegate.excluirPorIds(ids);
+        } finally {
+            descartarAgoraEAoFinal(() -> {
+                porId.invalidateAll(ids);
+                porCategoria.invalidateAll();
+            });
+        }
+    }
+    
+    @Override
+    public boolean existsById(Long id) {
+        return findById(id).isPresent();
+    }
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, porId, "esportes.porId");
+        CaffeineCacheMetrics.monitor(registry, porCategoria, "esportes.porCategoria");
+    }
+    
+    /**
+     * @return Estatísticas (acertos, faltas, evictions) de cada cache
+     */
+    public Map<String, CacheStats> estatisticas() {
+        Map<String, CacheStats> estatisticas = new LinkedHashMap<>();
+        estatisticas.put("porId", porId.stats());
+        estatisticas.put("porCategoria", porCategoria.stats());
+        return estatisticas;
+    }
+    
+    /**
+     * Uma escrita pode alterar a categoria; como os esportes mudam pouco,
+     * as consultas por categoria são simplesmente descartadas.
+     */
+    private void invalidar(Long id) {
+        descartarAgoraEAoFinal(() -> {
+            if (id != null) {
+                porId.invalidate(id);
+            }
+            porCategoria.invalidateAll();
+        });
+    }
+    
+    private void invalidarTudo() {
+        descartarAgoraEAoFinal(() -> {
+            porId.invalidateAll();
+            porCategoria.invalidateAll();
+        });
+    }
+    
+    /**
+     * Dentro de uma transação (lote, importação) a escrita só fica visível no commit:
+     * uma leitura de outra transação entre o descarte e o commit recarregaria o valor
+     * antigo, e uma leitura da própria transação guardaria um valor que o rollback
+     * desfaz. Por isso o descarte é repetido ao final, qualquer que seja o desfecho.
+     * Fora de transação, o delegate já confirmou.
+     */
+    private static void descartarAgoraEAoFinal(Runnable descarte) {
+        descarte.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    descarte.run();
+                }
+            });
+        }
+    }
+    
+    private static List<Esporte> copiar(List<Esporte> esportes) {
+        return esportes.stream().map(Esporte::copia).toList();
+    }
+}
@@ -1,20 +1,46 @@
 package com.educacao.esportiva.infrastructure.config;
 
+import com.educacao.esportiva.application.service.DicionarioCategorias;
 import com.educacao.esportiva.domain.Esporte;
 import com.educacao.esportiva.domain.repository.EsporteRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Inicializador de dados simples para Esporte.
  */
 @Component
+@Profile("!reativo")
 public class DataInitializer implements CommandLineRunner {
     
+    // Dados de exemplo (nome -> categoria), compartilhados com o ReactiveDataInitializer
+    static final Map<String, String> ESPORTES_EXEMPLO;
+    
+    static {
+        Map<String, String> exemplos = new LinkedHashMap<>();
+        exemplos.put("Futebol", "Coletivo");
+        exemplos.put("Basquete", "Coletivo");
+        exemplos.put("Vôlei", "Coletivo");
+        exemplos.put("Tênis", "Individual");
+        exemplos.put("Natação", "Individual");
+        exemplos.put("Atletismo", "Individual");
+        ESPORTES_EXEMPLO = Collections.unmodifiableMap(exemplos);
+    }
+    
     @Autowired
     private EsporteRepository esporteRepository;
     
+    @Autowired
+    private DicionarioCategorias dicionarioCategorias;
+    
     @Override
     public void run(String... args) throws Exception {
         // Verificar se já existem dados
@@ -24,13 +50,11 @@ public class DataInitializer implements CommandLineRunner {
     }
     
     private void carregarEsportes() {
-        // Dados de exemplo de esportes
-        esporteRepository.save(new Esporte("Futebol", "Coletivo"));
-        esporteRepository.save(new Esporte("Basquete", "Coletivo"));
-        esporteRepository.save(new Esporte("Vôlei", "Coletivo"));
-        esporteRepository.save(new Esporte("Tênis", "Individual"));
-        esporteRepository.save(new Esporte("Natação", "Individual"));
-        esporteRepository.save(new Esporte("Atletismo", "Individual"));
+        // Dados de exemplo de esportes, gravados em um único lote JDBC
+        List<Esporte> esportes = new ArrayList<>();
+        ESPORTES_EXEMPLO.forEach((nome, categoria) ->
+                esportes.add(new Esporte(nome, dicionarioCategorias.codificar(categoria))));
+        esporteRepository.saveAll(esportes);
         
         System.out.println("✅ Dados de esportes carregados com sucesso!");
     }
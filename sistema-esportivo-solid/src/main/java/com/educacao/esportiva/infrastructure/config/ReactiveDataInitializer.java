@@ -0,0 +1,35 @@
+package com.educacao.esportiva.infrastructure.config;
+
+import com.educacao.esportiva.domain.Categoria;
+import com.educacao.esportiva.domain.Esporte;
+import com.educacao.esportiva.domain.repository.ReactiveEsporteRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+/**
+ * Inicializador de dados do perfil "reativo": a mesma base de exemplo do
+ * DataInitializer, para que as duas variantes sejam comparadas sobre os mesmos dados.
+ */
+@Component
+@Profile("reativo")
+public class ReactiveDataInitializer implements CommandLineRunner {
+    
+    @Autowired
+    private ReactiveEsporteRepository esporteRepository;
+    
+    @Override
+    public void run(String... args) throws Exception {
+        // Roda uma vez na inicialização, fora do event loop: pode aguardar o resultado
+        Boolean vazio = esporteRepository.findAll().hasElements().map(existe -> !existe).block();
+        if (Boolean.TRUE.equals(vazio)) {
+            Flux.fromIterable(DataInitializer.ESPORTES_EXEMPLO.entrySet())
+                    .concatMap(exemplo -> esporteRepository.save(
+                            new Esporte(exemplo.getKey(), new Categoria(exemplo.getValue()))))
+                    .blockLast();
+            System.out.println("✅ Dados de esportes carregados com sucesso!");
+        }
+    }
+}
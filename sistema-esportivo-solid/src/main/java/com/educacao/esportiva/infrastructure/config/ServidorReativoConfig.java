@@ -0,0 +1,24 @@
+package com.educacao.esportiva.infrastructure.config;
+
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Servidor do perfil "reativo".
+ *
+ * O Tomcat continua no classpath por causa do perfil padrão (Spring MVC) e, com ele
+ * presente, o Spring Boot prefere o Tomcat também para o WebFlux. Declarar a fábrica
+ * do Netty faz a variante reativa rodar no event loop do Netty, que é o que se quer
+ * comparar com o modelo de uma thread por requisição.
+ */
+@Configuration
+@Profile("reativo")
+public class ServidorReativoConfig {
+    
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
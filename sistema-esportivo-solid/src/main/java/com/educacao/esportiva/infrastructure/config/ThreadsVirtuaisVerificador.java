@@ -0,0 +1,31 @@
+package com.educacao.esportiva.infrastructure.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Avisa quando o perfil "virtual" é ativado em uma JVM sem suporte a virtual threads.
+ */
+@Component
+@Profile("virtual")
+public class ThreadsVirtuaisVerificador {
+    
+    static final int VERSAO_MINIMA_JAVA = 21;
+    
+    private static final Logger log = LoggerFactory.getLogger(ThreadsVirtuaisVerificador.class);
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void verificar() {
+        int versao = Runtime.version().feature();
+        if (versao < VERSAO_MINIMA_JAVA) {
+            log.warn("Perfil 'virtual' ativo em Java {}: virtual threads exigem Java {}+ (build com o perfil Maven java21); "
+                    + "usando threads de plataforma.", versao, VERSAO_MINIMA_JAVA);
+        } else {
+            log.info("Requisições atendidas em virtual threads (Java {})", versao);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.educacao.esportiva.infrastructure.repository;
+
+import com.educacao.esportiva.domain.Categoria;
+import com.educacao.esportiva.domain.repository.CategoriaRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Implementação JPA simples do repositório de Categoria.
+ */
+@Repository
+public interface JpaCategoriaRepository extends JpaRepository<Categoria, Integer>, CategoriaRepository {
+    
+    @Override
+    Optional<Categoria> findByNomeNormalizado(String nomeNormalizado);
+}
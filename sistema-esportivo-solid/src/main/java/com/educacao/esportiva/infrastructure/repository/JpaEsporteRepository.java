@@ -1,12 +1,22 @@
 package com.educacao.esportiva.infrastructure.repository;
 
+import com.educacao.esportiva.domain.Categoria;
 import com.educacao.esportiva.domain.Esporte;
 import com.educacao.esportiva.domain.repository.EsporteRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Implementação JPA simples do repositório de Esporte.
@@ -15,8 +25,37 @@ import java.util.Optional;
 public interface JpaEsporteRepository extends JpaRepository<Esporte, Long>, EsporteRepository {
     
     @Override
-    List<Esporte> findByCategoria(String categoria);
+    List<Esporte> findByCategoriaId(Integer codigoCategoria);
     
     @Override
     Optional<Esporte> findByNome(String nome);
+    
+    @Override
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<Esporte> streamAllByOrderByIdAsc();
+    
+    // UPDATE em lote do JPQL: não passa pelo contexto de persistência nem pelos
+    // callbacks (@PreUpdate), por isso o nome normalizado e a versão são gravados aqui
+    @Override
+    @Transactional
+    @Modifying
+    @Query("UPDATE Esporte e SET e.nome = :nome, e.nomeNormalizado = :nomeNormalizado, "
+            + "e.categoria = :categoria, e.versao = e.versao + 1 "
+            + "WHERE e.id = :id AND e.versao = :versao")
+    int atualizarSeVersao(@Param("id") Long id, @Param("nome") String nome,
+                          @Param("nomeNormalizado") String nomeNormalizado,
+                          @Param("categoria") Categoria categoria, @Param("versao") Long versao);
+    
+    // Diferente do deleteById do Spring Data, que faz findById e depois remove a entidade
+    @Override
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Esporte e WHERE e.id = :id")
+    int excluirPorId(@Param("id") Long id);
+    
+    @Override
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Esporte e WHERE e.id IN :ids")
+    int excluirPorIds(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,250 @@
+package com.educacao.esportiva.infrastructure.repository;
+
+import com.educacao.esportiva.domain.Categoria;
+import com.educacao.esportiva.domain.Esporte;
+import com.educacao.esportiva.domain.NormalizadorTexto;
+import com.educacao.esportiva.domain.repository.ReactiveEsporteRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.spi.Readable;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * Implementação R2DBC do repositório reativo de Esporte, sobre a mesma tabela
+ * criada pelas migrações do Flyway.
+ * A categoria é gravada como código do dicionário (tabela categorias), resolvido
+ * pelo nome na gravação e trazido de volta por junção na leitura.
+ *
+ * Os IDs vêm da sequência esportes_seq em blocos, com a mesma convenção do otimizador
+ * pooled do Hibernate (allocationSize = INCREMENT BY = 50): o valor V lido da sequência
+ * reserva os IDs (V - 50, V]. Assim um INSERT não consome 50 valores, e as faixas
+ * continuam disjuntas das alocadas pelo JPA sobre o mesmo schema.
+ *
+ * Cada método é medido no timer spring.data.repository.invocations, com as mesmas tags
+ * que o Spring Data usa para os repositórios JPA (repository, method, state, exception),
+ * de modo que as duas variantes aparecem na mesma métrica.
+ */
+@Repository
+@Profile("reativo")
+public class R2dbcEsporteRepository implements ReactiveEsporteRepository {
+    
+    private static final String COLUNAS = "SELECT e.id, e.nome, e.categoria_id, e.versao, c.nome AS categoria "
+            + "FROM esportes e JOIN categorias c ON c.id = e.categoria_id";
+    
+    private static final String METRICA = "spring.data.repository.invocations";
+    
+    // Igual ao INCREMENT BY da sequência e ao allocationSize do @SequenceGenerator de Esporte
+    static final int TAMANHO_BLOCO_IDS = 50;
+    
+    private final DatabaseClient databaseClient;
+    private final MeterRegistry meterRegistry;
+    
+    // Bloco de IDs reservado e ainda não usado: [proximoId, ultimoIdDoBloco]
+    private long proximoId = 1;
+    private long ultimoIdDoBloco = 0;
+    
+    public R2dbcEsporteRepository(DatabaseClient databaseClient, MeterRegistry meterRegistry) {
+        this.databaseClient = databaseClient;
+        this.meterRegistry = meterRegistry;
+    }
+    
+    @Override
+    public Mono<Esporte> save(Esporte esporte) {
+        if (esporte.getId() != null && esporte.getVersao() == null) {
+            return Mono.error(new IllegalArgumentException("Versão do esporte é obrigatória na atualização"));
+        }
+        return medir("save", codificarCategoria(esporte.getCategoria()).flatMap(categoria -> {
+            if (esporte.getId() == null) {
+                return proximoId().flatMap(id -> inserir(new Esporte(id, esporte.getNome(), categoria)));
+            }
+            return atualizar(new Esporte(esporte.getId(), esporte.getNome(), categoria), esporte.getVersao());
+        }));
+    }
+    
+    /**
+     * Grava nome e categoria se a versão no banco ainda for a informada, incrementando-a
+     * (a mesma coluna do @Version do JPA). UPDATE simples, sem cláusulas próprias do H2:
+     * a nova versão é a esperada + 1, sem precisar reler a linha.
+     */
+    private Mono<Esporte> atualizar(Esporte atualizado, long versaoEsperada) {
+        return databaseClient.sql("UPDATE esportes SET nome = :nome, nome_normalizado = :nomeNormalizado, "
+                        + "categoria_id = :categoriaId, versao = versao + 1 WHERE id = :id AND versao = :versao")
+                .bind("id", atualizado.getId())
+                .bind("nome", atualizado.getNome())
+                .bind("nomeNormalizado", NormalizadorTexto.normalizar(atualizado.getNome()))
+                .bind("categoriaId", atualizado.getCodigoCategoria())
+                .bind("versao", versaoEsperada)
+                .fetch()
+                .rowsUpdated()
+                .flatMap(linhas -> {
+                    if (linhas == 0) {
+                        return Mono.error(new OptimisticLockingFailureException(
+                                "Esporte " + atualizado.getId() + " inexistente ou alterado (versão esperada " + versaoEsperada + ")"));
+                    }
+                    atualizado.setVersao(versaoEsperada + 1);
+                    return Mono.just(atualizado);
+                });
+    }
+    
+    /**
+     * Entrega o próximo ID do bloco atual; só consulta a sequência quando o bloco acaba.
+     * Duas requisições que esgotam o bloco ao mesmo tempo leem blocos diferentes e o
+     * restante do primeiro é descartado: IDs podem ser pulados, nunca repetidos.
+     */
+    private Mono<Long> proximoId() {
+        return Mono.defer(() -> {
+            Long id = tirarDoBloco();
+            if (id != null) {
+                return Mono.just(id);
+            }
+            return databaseClient.sql("SELECT NEXT VALUE FOR esportes_seq")
+                    .map(linha -> linha.get(0, Long.class))
+                    .one()
+                    .map(this::iniciarBloco);
+        });
+    }
+    
+    private synchronized Long tirarDoBloco() {
+        return proximoId <= ultimoIdDoBloco ? proximoId++ : null;
+    }
+    
+    /**
+     * @return Primeiro ID do bloco (V - 50, V]; o primeiro valor da sequência (1) reserva só o próprio 1
+     */
+    private synchronized long iniciarBloco(long valorSequencia) {
+        long primeiro = Math.max(1, valorSequencia - TAMANHO_BLOCO_IDS + 1);
+        proximoId = primeiro + 1;
+        ultimoIdDoBloco = valorSequencia;
+        return primeiro;
+    }
+    
+    private Mono<Esporte> inserir(Esporte esporte) {
+        return databaseClient.sql("INSERT INTO esportes (id, nome, nome_normalizado, categoria_id) "
+                        + "VALUES (:id, :nome, :nomeNormalizado, :categoriaId)")
+                .bind("id", esporte.getId())
+                .bind("nome", esporte.getNome())
+                .bind("nomeNormalizado", NormalizadorTexto.normalizar(esporte.getNome()))
+                .bind("categoriaId", esporte.getCodigoCategoria())
+                .fetch()
+                .rowsUpdated()
+                .then(Mono.fromSupplier(() -> {
+                    esporte.setVersao(0L);
+                    return esporte;
+                }));
+    }
+    
+    /**
+     * Obtém o código da categoria pelo nome (sem acentos e sem diferenças de caixa),
+     * inserindo-a no dicionário se necessário. O MERGE só insere quando o nome normalizado
+     * ainda não existe, sem renomear a categoria já gravada.
+     */
+    private Mono<Categoria> codificarCategoria(String nome) {
+        String nomeNormalizado = NormalizadorTexto.normalizar(nome);
+        return databaseClient.sql("MERGE INTO categorias c USING (VALUES (:nome, :nomeNormalizado)) n (nome, nome_normalizado) "
+                        + "ON c.nome_normalizado = n.nome_normalizado "
+                        + "WHEN NOT MATCHED THEN INSERT (nome, nome_normalizado) VALUES (n.nome, n.nome_normalizado)")
+                .bind("nome", nome.trim())
+                .bind("nomeNormalizado", nomeNormalizado)
+                .fetch()
+                .rowsUpdated()
+                .then(databaseClient.sql("SELECT id, nome FROM categorias WHERE nome_normalizado = :nomeNormalizado")
+                        .bind("nomeNormalizado", nomeNormalizado)
+                        .map(linha -> new Categoria(linha.get("id", Integer.class), linha.get("nome", String.class)))
+                        .one());
+    }
+    
+    @Override
+    public Mono<Esporte> findById(Long id) {
+        return medir("findById", databaseClient.sql(COLUNAS + " WHERE e.id = :id")
+                .bind("id", id)
+                .map(R2dbcEsporteRepository::paraEsporte)
+                .one());
+    }
+    
+    @Override
+    public Flux<Esporte> findAll() {
+        return medir("findAll", databaseClient.sql(COLUNAS + " ORDER BY e.id")
+                .map(R2dbcEsporteRepository::paraEsporte)
+                .all());
+    }
+    
+    @Override
+    public Flux<Esporte> findByCategoria(String categoria) {
+        // O nome é traduzido para o código uma vez; a busca em esportes compara inteiros
+        return medir("findByCategoria", databaseClient.sql(COLUNAS + " WHERE e.categoria_id = "
+                        + "(SELECT id FROM categorias WHERE nome_normalizado = :categoria) ORDER BY e.id")
+                .bind("categoria", NormalizadorTexto.normalizar(categoria))
+                .map(R2dbcEsporteRepository::paraEsporte)
+                .all());
+    }
+    
+    @Override
+    public Mono<Esporte> findByNome(String nome) {
+        return medir("findByNome", databaseClient.sql(COLUNAS + " WHERE e.nome_normalizado = :nomeNormalizado")
+                .bind("nomeNormalizado", NormalizadorTexto.normalizar(nome))
+                .map(R2dbcEsporteRepository::paraEsporte)
+                .one());
+    }
+    
+    @Override
+    public Mono<Boolean> deleteById(Long id) {
+        return medir("deleteById", databaseClient.sql("DELETE FROM esportes WHERE id = :id")
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated()
+                .map(linhas -> linhas > 0));
+    }
+    
+    @Override
+    public Mono<Long> deleteAllById(Collection<Long> ids) {
+        // A coleção é expandida pelo DatabaseClient em IN (?, ?, ...)
+        return medir("deleteAllById", databaseClient.sql("DELETE FROM esportes WHERE id IN (:ids)")
+                .bind("ids", ids)
+                .fetch()
+                .rowsUpdated());
+    }
+    
+    /**
+     * Mede da assinatura até o término (a consulta só é executada na assinatura)
+     */
+    private <T> Mono<T> medir(String metodo, Mono<T> operacao) {
+        return Mono.defer(() -> {
+            Timer.Sample amostra = Timer.start(meterRegistry);
+            return operacao
+                    .doOnSuccess(valor -> registrar(amostra, metodo, null))
+                    .doOnError(erro -> registrar(amostra, metodo, erro));
+        });
+    }
+    
+    private <T> Flux<T> medir(String metodo, Flux<T> operacao) {
+        return Flux.defer(() -> {
+            Timer.Sample amostra = Timer.start(meterRegistry);
+            return operacao
+                    .doOnComplete(() -> registrar(amostra, metodo, null))
+                    .doOnError(erro -> registrar(amostra, metodo, erro));
+        });
+    }
+    
+    private void registrar(Timer.Sample amostra, String metodo, Throwable erro) {
+        amostra.stop(Timer.builder(METRICA)
+                .tag("repository", R2dbcEsporteRepository.class.getSimpleName())
+                .tag("method", metodo)
+                .tag("state", erro == null ? "SUCCESS" : "ERROR")
+                .tag("exception", erro == null ? "None" : erro.getClass().getSimpleName())
+                .register(meterRegistry));
+    }
+    
+    private static Esporte paraEsporte(Readable linha) {
+        Esporte esporte = new Esporte(linha.get("id", Long.class), linha.get("nome", String.class),
+                new Categoria(linha.get("categoria_id", Integer.class), linha.get("categoria", String.class)));
+        esporte.setVersao(linha.get("versao", Long.class));
+        return esporte;
+    }
+}
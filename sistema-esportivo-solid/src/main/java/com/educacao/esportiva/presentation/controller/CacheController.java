@@ -0,0 +1,47 @@
+package com.educacao.esportiva.presentation.controller;
+
+import com.educacao.esportiva.infrastructure.cache.EsporteRepositoryComCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Controller REST com as métricas de acerto/falta do cache de Esporte.
+ */
+@RestController
+@RequestMapping("/api/cache")
+@Profile("!reativo")
+public class CacheController {
+    
+    @Autowired
+    private ObjectProvider<EsporteRepositoryComCache> esporteRepositoryComCache;
+    
+    @GetMapping("/esportes")
+    public ResponseEntity<Map<String, Map<String, Object>>> estatisticasEsportes() {
+        EsporteRepositoryComCache cache = esporteRepositoryComCache.getIfAvailable();
+        if (cache == null) {
+            return ResponseEntity.notFound().build();
+        }
+        Map<String, Map<String, Object>> resposta = new LinkedHashMap<>();
+        cache.estatisticas().forEach((nome, stats) -> resposta.put(nome, resumir(stats)));
+        return ResponseEntity.ok(resposta);
+    }
+    
+    private static Map<String, Object> resumir(CacheStats stats) {
+        Map<String, Object> resumo = new LinkedHashMap<>();
+        resumo.put("acertos", stats.hitCount());
+        resumo.put("faltas", stats.missCount());
+        resumo.put("taxaAcerto", stats.hitRate());
+        resumo.put("evictions", stats.evictionCount());
+        resumo.put("carregamentos", stats.loadCount());
+        return resumo;
+    }
+}
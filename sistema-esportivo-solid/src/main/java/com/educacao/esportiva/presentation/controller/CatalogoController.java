@@ -0,0 +1,71 @@
+package com.educacao.esportiva.presentation.controller;
+
+import com.educacao.esportiva.application.dto.ResumoImportacaoDTO;
+import com.educacao.esportiva.application.service.EsporteService;
+import com.educacao.esportiva.application.service.ImportacaoEsporteService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Controller REST para exportação e importação do catálogo em NDJSON.
+ */
+@RestController
+@RequestMapping("/api")
+@Profile("!reativo")
+public class CatalogoController {
+    
+    @Autowired
+    private EsporteService esporteService;
+    
+    @Autowired
+    private ImportacaoEsporteService importacaoEsporteService;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    /**
+     * Exporta todos os esportes, um por linha, conforme são lidos do banco.
+     */
+    @GetMapping(value = "/export", produces = EsporteController.MEDIA_TYPE_NDJSON)
+    public ResponseEntity<StreamingResponseBody> exportar() {
+        StreamingResponseBody corpo = saida -> esporteService.percorrerTodos(esporte -> {
+            try {
+                saida.write(objectMapper.writeValueAsBytes(esporte));
+                saida.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(EsporteController.MEDIA_TYPE_NDJSON))
+                .body(corpo);
+    }
+    
+    /**
+     * Importa esportes em NDJSON (formato de /api/export; o id é ignorado).
+     * O corpo é lido linha a linha e gravado em lotes; linhas inválidas aparecem
+     * nos erros do resumo, que é devolvido mesmo que nenhuma linha seja importada.
+     */
+    @PostMapping(value = "/import", consumes = EsporteController.MEDIA_TYPE_NDJSON)
+    public ResponseEntity<ResumoImportacaoDTO> importar(HttpServletRequest request) throws IOException {
+        try (BufferedReader leitor = new BufferedReader(
+                new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8))) {
+            return ResponseEntity.ok(importacaoEsporteService.importar(leitor));
+        }
+    }
+}
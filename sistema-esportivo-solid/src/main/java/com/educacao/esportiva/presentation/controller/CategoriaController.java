@@ -0,0 +1,29 @@
+package com.educacao.esportiva.presentation.controller;
+
+import com.educacao.esportiva.application.service.DicionarioCategorias;
+import com.educacao.esportiva.domain.Categoria;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Controller REST do dicionário de categorias (nome -> código).
+ */
+@RestController
+@RequestMapping("/api/categorias")
+@Profile("!reativo")
+public class CategoriaController {
+    
+    @Autowired
+    private DicionarioCategorias dicionarioCategorias;
+    
+    @GetMapping
+    public ResponseEntity<List<Categoria>> listarCategorias() {
+        return ResponseEntity.ok(dicionarioCategorias.listar());
+    }
+}
@@ -1,13 +1,31 @@
 package com.educacao.esportiva.presentation.controller;
 
+import com.educacao.esportiva.application.dto.CriarEsporteDTO;
+import com.educacao.esportiva.application.dto.ResultadoLoteDTO;
 import com.educacao.esportiva.application.service.EsporteService;
+import com.educacao.esportiva.application.service.ImportacaoEsporteService;
 import com.educacao.esportiva.domain.Esporte;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -15,11 +33,23 @@ import java.util.Optional;
  */
 @RestController
 @RequestMapping("/api/esportes")
+@Profile("!reativo")
 public class EsporteController {
     
+    static final String MEDIA_TYPE_NDJSON = "application/x-ndjson";
+    static final String CABECALHO_PROXIMO_CURSOR = "X-Proximo-Cursor";
+    static final int LIMITE_MAXIMO_PAGINA = 1000;
+    static final int LIMITE_MAXIMO_EXCLUSAO = 1000;
+    
     @Autowired
     private EsporteService esporteService;
     
+    @Autowired
+    private ImportacaoEsporteService importacaoEsporteService;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
     @PostMapping
     public ResponseEntity<Esporte> criarEsporte(@RequestBody EsporteRequest request) {
         try {
@@ -30,16 +60,74 @@ public class EsporteController {
         }
     }
     
-    @GetMapping
-    public ResponseEntity<List<Esporte>> listarTodos() {
-        List<Esporte> esportes = esporteService.listarTodos();
-        return ResponseEntity.ok(esportes);
+    /**
+     * Cadastro em lote a partir de um array JSON; grava tudo em uma transação
+     * e devolve o resultado de cada item na ordem recebida.
+     */
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<ResultadoLoteDTO>> criarEsportesEmLote(@RequestBody List<CriarEsporteDTO> itens) {
+        return ResponseEntity.ok(esporteService.criarEsportesEmLote(itens));
+    }
+    
+    /**
+     * Cadastro em lote a partir de NDJSON (um objeto JSON por linha). As linhas são
+     * gravadas conforme chegam, em lotes de esportes.importacao.tamanho-lote, cada um
+     * em sua transação; uma linha com JSON inválido é rejeitada no seu resultado.
+     */
+    @PostMapping(value = "/batch", consumes = MEDIA_TYPE_NDJSON)
+    public ResponseEntity<List<ResultadoLoteDTO>> criarEsportesEmLoteNdjson(HttpServletRequest request) throws IOException {
+        try (BufferedReader leitor = new BufferedReader(
+                new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8))) {
+            return ResponseEntity.ok(importacaoEsporteService.cadastrarEmLotes(leitor));
+        }
+    }
+    
+    /**
+     * Lista esportes. Com {@code limite}, devolve uma página por cursor (keyset em id)
+     * e informa o cursor da próxima página no cabeçalho X-Proximo-Cursor.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<Esporte>> listarTodos(@RequestParam(required = false) Long aposId,
+                                                     @RequestParam(required = false) Integer limite) {
+        if (limite == null) {
+            return ResponseEntity.ok(esporteService.listarTodos());
+        }
+        if (limite <= 0 || limite > LIMITE_MAXIMO_PAGINA) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        List<Esporte> pagina = esporteService.listarPagina(aposId, limite);
+        ResponseEntity.BodyBuilder resposta = ResponseEntity.ok();
+        if (pagina.size() == limite) {
+            resposta.header(CABECALHO_PROXIMO_CURSOR, String.valueOf(pagina.get(pagina.size() - 1).getId()));
+        }
+        return resposta.body(pagina);
     }
     
+    /**
+     * Modo streaming (Accept: application/x-ndjson): escreve um esporte por linha
+     * conforme é lido do banco, com uso de memória constante.
+     */
+    @GetMapping(produces = MEDIA_TYPE_NDJSON)
+    public ResponseEntity<StreamingResponseBody> transmitirTodos() {
+        StreamingResponseBody corpo = saida -> esporteService.percorrerTodos(esporte -> {
+            try {
+                saida.write(objectMapper.writeValueAsBytes(esporte));
+                saida.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(MEDIA_TYPE_NDJSON)).body(corpo);
+    }
+    
+    /**
+     * Responde com ETag igual à versão do esporte; com If-None-Match igual à versão
+     * atual, o Spring devolve 304 sem corpo.
+     */
     @GetMapping("/{id}")
     public ResponseEntity<Esporte> buscarPorId(@PathVariable Long id) {
         Optional<Esporte> esporte = esporteService.buscarPorId(id);
-        return esporte.map(ResponseEntity::ok)
+        return esporte.map(encontrado -> ResponseEntity.ok().eTag(etag(encontrado)).body(encontrado))
                      .orElse(ResponseEntity.notFound().build());
     }
     
@@ -56,11 +144,35 @@ public class EsporteController {
                      .orElse(ResponseEntity.notFound().build());
     }
     
+    /**
+     * Com If-Match (ETag obtido no GET), a atualização é um único UPDATE condicional à
+     * versão e responde 412 se o esporte foi alterado nesse meio tempo. Sem If-Match
+     * (ou com "*"), lê e grava, respondendo 409 se houver alteração concorrente.
+     * Um nome que já pertence a outro esporte também responde 409, seja detectado pelo
+     * índice de nomes ou pela constraint única do banco.
+     */
     @PutMapping("/{id}")
-    public ResponseEntity<Esporte> atualizarEsporte(@PathVariable Long id, @RequestBody EsporteRequest request) {
+    public ResponseEntity<Esporte> atualizarEsporte(@PathVariable Long id, @RequestBody EsporteRequest request,
+                                                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        boolean condicional = ifMatch != null && !ifMatch.isBlank() && !"*".equals(ifMatch.trim());
         try {
-            Esporte esporte = esporteService.atualizarEsporte(id, request.getNome(), request.getCategoria());
-            return ResponseEntity.ok(esporte);
+            Esporte esporte;
+            if (condicional) {
+                Long versao = versaoDoEtag(ifMatch);
+                if (versao == null) {
+                    return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+                }
+                esporte = esporteService.atualizarEsporteSeVersao(id, request.getNome(), request.getCategoria(), versao);
+            } else {
+                esporte = esporteService.atualizarEsporte(id, request.getNome(), request.getCategoria());
+            }
+            return ResponseEntity.ok().eTag(etag(esporte)).body(esporte);
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(condicional ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT).build();
+        } catch (DataIntegrityViolationException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         } catch (Exception e) {
@@ -78,6 +190,41 @@ public class EsporteController {
         }
     }
     
+    /**
+     * Exclusão em massa (DELETE /api/esportes?ids=1,2,3) em uma única instrução.
+     * Responde com a quantidade excluída; IDs inexistentes são ignorados.
+     */
+    @DeleteMapping(params = "ids")
+    public ResponseEntity<Map<String, Integer>> excluirEsportes(@RequestParam List<Long> ids) {
+        if (ids.isEmpty() || ids.size() > LIMITE_MAXIMO_EXCLUSAO || ids.contains(null)) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        int excluidos = esporteService.excluirEsportes(new LinkedHashSet<>(ids));
+        return ResponseEntity.ok(Map.of("excluidos", excluidos));
+    }
+    
+    static String etag(Esporte esporte) {
+        return "\"" + esporte.getVersao() + "\"";
+    }
+    
+    /**
+     * @return Versão contida em um ETag ("3" ou W/"3"), ou null se não for uma versão
+     */
+    static Long versaoDoEtag(String etag) {
+        String valor = etag.trim();
+        if (valor.startsWith("W/")) {
+            valor = valor.substring(2);
+        }
+        if (valor.length() >= 2 && valor.startsWith("\"") && valor.endsWith("\"")) {
+            valor = valor.substring(1, valor.length() - 1);
+        }
+        try {
+            return Long.valueOf(valor);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+    
     /**
      * Classe interna para request body
      */
@@ -0,0 +1,134 @@
+package com.educacao.esportiva.presentation.controller;
+
+import com.educacao.esportiva.application.dto.CriarEsporteDTO;
+import com.educacao.esportiva.application.dto.ResultadoLoteDTO;
+import com.educacao.esportiva.application.service.ReactiveEsporteService;
+import com.educacao.esportiva.domain.Esporte;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Controller WebFlux para operações com Esporte (perfil "reativo").
+ * Mesmas rotas do EsporteController, sem bloquear threads do servidor.
+ */
+@RestController
+@RequestMapping("/api/esportes")
+@Profile("reativo")
+public class ReactiveEsporteController {
+    
+    static final String MEDIA_TYPE_NDJSON = "application/x-ndjson";
+    static final int LIMITE_MAXIMO_EXCLUSAO = 1000;
+    
+    @Autowired
+    private ReactiveEsporteService esporteService;
+    
+    @PostMapping
+    public Mono<ResponseEntity<Esporte>> criarEsporte(@RequestBody CriarEsporteDTO request) {
+        return esporteService.criarEsporte(request.getNome(), request.getCategoria())
+                .map(esporte -> ResponseEntity.status(HttpStatus.CREATED).body(esporte))
+                .onErrorReturn(IllegalArgumentException.class, ResponseEntity.status(HttpStatus.BAD_REQUEST).build());
+    }
+    
+    /**
+     * Cadastro em lote a partir de um array JSON ou NDJSON, processado item a item
+     * conforme chega; devolve o resultado de cada item.
+     */
+    @PostMapping(value = "/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, MEDIA_TYPE_NDJSON})
+    public Flux<ResultadoLoteDTO> criarEsportesEmLote(@RequestBody Flux<CriarEsporteDTO> itens) {
+        return itens.index().concatMap(item -> {
+            int indice = item.getT1().intValue();
+            return esporteService.criarEsporte(item.getT2().getNome(), item.getT2().getCategoria())
+                    .map(esporte -> ResultadoLoteDTO.sucesso(indice, esporte.getId()))
+                    .onErrorResume(IllegalArgumentException.class,
+                            e -> Mono.just(ResultadoLoteDTO.erro(indice, e.getMessage())));
+        });
+    }
+    
+    /**
+     * Lista esportes; com Accept: application/x-ndjson os itens são enviados conforme lidos.
+     */
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MEDIA_TYPE_NDJSON})
+    public Flux<Esporte> listarTodos() {
+        return esporteService.listarTodos();
+    }
+    
+    /**
+     * Responde com ETag igual à versão do esporte, como o EsporteController
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Esporte>> buscarPorId(@PathVariable Long id) {
+        return esporteService.buscarPorId(id)
+                .map(esporte -> ResponseEntity.ok().eTag(EsporteController.etag(esporte)).body(esporte))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+    
+    @GetMapping("/categoria/{categoria}")
+    public Flux<Esporte> buscarPorCategoria(@PathVariable String categoria) {
+        return esporteService.buscarPorCategoria(categoria);
+    }
+    
+    @GetMapping("/nome/{nome}")
+    public Mono<ResponseEntity<Esporte>> buscarPorNome(@PathVariable String nome) {
+        return esporteService.buscarPorNome(nome)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+    
+    /**
+     * Com If-Match, o UPDATE é condicional à versão e responde 412 se ela mudou; sem
+     * If-Match (ou com "*"), a versão é lida antes e uma alteração concorrente responde 409.
+     * Um nome que já pertence a outro esporte também responde 409.
+     */
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<Esporte>> atualizarEsporte(@PathVariable Long id, @RequestBody CriarEsporteDTO request,
+                                                          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        boolean condicional = ifMatch != null && !ifMatch.isBlank() && !"*".equals(ifMatch.trim());
+        Mono<Esporte> atualizado;
+        if (condicional) {
+            Long versao = EsporteController.versaoDoEtag(ifMatch);
+            if (versao == null) {
+                return Mono.just(ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build());
+            }
+            atualizado = esporteService.atualizarEsporteSeVersao(id, request.getNome(), request.getCategoria(), versao);
+        } else {
+            atualizado = esporteService.atualizarEsporte(id, request.getNome(), request.getCategoria());
+        }
+        return atualizado
+                .map(esporte -> ResponseEntity.ok().eTag(EsporteController.etag(esporte)).body(esporte))
+                .defaultIfEmpty(ResponseEntity.notFound().build())
+                .onErrorReturn(OptimisticLockingFailureException.class,
+                        ResponseEntity.status(condicional ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT).build())
+                .onErrorReturn(DuplicateKeyException.class, ResponseEntity.status(HttpStatus.CONFLICT).build())
+                .onErrorReturn(IllegalArgumentException.class, ResponseEntity.status(HttpStatus.BAD_REQUEST).build());
+    }
+    
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> excluirEsporte(@PathVariable Long id) {
+        return esporteService.excluirEsporte(id)
+                .map(excluido -> excluido
+                        ? ResponseEntity.noContent().<Void>build()
+                        : ResponseEntity.notFound().<Void>build());
+    }
+    
+    @DeleteMapping(params = "ids")
+    public Mono<ResponseEntity<Map<String, Long>>> excluirEsportes(@RequestParam List<Long> ids) {
+        if (ids.isEmpty() || ids.size() > LIMITE_MAXIMO_EXCLUSAO || ids.contains(null)) {
+            return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST).build());
+        }
+        return esporteService.excluirEsportes(new LinkedHashSet<>(ids))
+                .map(excluidos -> ResponseEntity.ok(Map.of("excluidos", excluidos)));
+    }
+}
@@ -0,0 +1,77 @@
+package db.migration;
+
+import com.educacao.esportiva.domain.NormalizadorTexto;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Recalcula categorias.nome_normalizado com o NormalizadorTexto da aplicação.
+ *
+ * A V4 preencheu as linhas existentes só com TRIM + LOWER (o SQL do H2 não remove
+ * acentos), então "Aquático" e "Aquatico" ficaram como categorias distintas e o
+ * dicionário, que busca pela chave sem acentos, não encontrava a primeira.
+ * Categorias que passam a ter a mesma chave são unificadas na de menor código:
+ * os esportes das demais são reapontados para ela e as duplicadas são removidas.
+ */
+public class V6__normalizar_nome_categorias extends BaseJavaMigration {
+    
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection conexao = context.getConnection();
+        
+        // Ordenadas por código: a primeira de cada chave é a que permanece
+        Map<String, Integer> mantidas = new LinkedHashMap<>();
+        Map<Integer, Integer> duplicadas = new HashMap<>();
+        try (Statement consulta = conexao.createStatement();
+             ResultSet linhas = consulta.executeQuery("SELECT id, nome FROM categorias ORDER BY id")) {
+            while (linhas.next()) {
+                int id = linhas.getInt("id");
+                Integer mantida = mantidas.putIfAbsent(NormalizadorTexto.normalizar(linhas.getString("nome")), id);
+                if (mantida != null) {
+                    duplicadas.put(id, mantida);
+                }
+            }
+        }
+        
+        // Duplicadas saem antes de atualizar as chaves, para não violar a constraint única
+        if (!duplicadas.isEmpty()) {
+            try (PreparedStatement reapontar = conexao.prepareStatement(
+                         "UPDATE esportes SET categoria_id = ? WHERE categoria_id = ?");
+                 PreparedStatement remover = conexao.prepareStatement(
+                         "DELETE FROM categorias WHERE id = ?")) {
+                for (Map.Entry<Integer, Integer> duplicada : duplicadas.entrySet()) {
+                    reapontar.setInt(1, duplicada.getValue());
+                    reapontar.setInt(2, duplicada.getKey());
+                    reapontar.addBatch();
+                    remover.setInt(1, duplicada.getKey());
+                    remover.addBatch();
+                }
+                reapontar.executeBatch();
+                remover.executeBatch();
+            }
+        }
+        
+        atualizarChaves(conexao, mantidas);
+    }
+    
+    private static void atualizarChaves(Connection conexao, Map<String, Integer> mantidas) throws SQLException {
+        try (PreparedStatement atualizar = conexao.prepareStatement(
+                "UPDATE categorias SET nome_normalizado = ? WHERE id = ?")) {
+            for (Map.Entry<String, Integer> mantida : mantidas.entrySet()) {
+                atualizar.setString(1, mantida.getKey());
+                atualizar.setInt(2, mantida.getValue());
+                atualizar.addBatch();
+            }
+            atualizar.executeBatch();
+        }
+    }
+}
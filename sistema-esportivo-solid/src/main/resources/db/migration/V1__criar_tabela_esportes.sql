@@ -0,0 +1,15 @@
+-- Sequência com incremento 50, alinhada ao allocationSize do @SequenceGenerator
+CREATE SEQUENCE esportes_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE esportes (
+    id               BIGINT       NOT NULL,
+    nome             VARCHAR(100) NOT NULL,
+    nome_normalizado VARCHAR(100) NOT NULL,
+    categoria        VARCHAR(50)  NOT NULL,
+    CONSTRAINT pk_esportes PRIMARY KEY (id),
+    CONSTRAINT uk_esportes_nome_normalizado UNIQUE (nome_normalizado)
+);
+
+-- Evitam varreduras completas em findByNome e findByCategoria
+CREATE INDEX idx_esportes_nome ON esportes (nome);
+CREATE INDEX idx_esportes_categoria ON esportes (categoria);
@@ -0,0 +1,26 @@
+-- Dicionário de categorias: cada nome distinto recebe um código inteiro
+CREATE TABLE categorias (
+    id   INTEGER GENERATED BY DEFAULT AS IDENTITY,
+    nome VARCHAR(50) NOT NULL,
+    CONSTRAINT pk_categorias PRIMARY KEY (id),
+    CONSTRAINT uk_categorias_nome UNIQUE (nome)
+);
+
+INSERT INTO categorias (nome)
+SELECT DISTINCT categoria FROM esportes ORDER BY categoria;
+
+-- Esportes passam a referenciar o código em vez de repetir o texto
+ALTER TABLE esportes ADD COLUMN categoria_id INTEGER;
+
+UPDATE esportes e
+SET categoria_id = (SELECT c.id FROM categorias c WHERE c.nome = e.categoria);
+
+ALTER TABLE esportes ALTER COLUMN categoria_id SET NOT NULL;
+ALTER TABLE esportes ADD CONSTRAINT fk_esportes_categoria
+    FOREIGN KEY (categoria_id) REFERENCES categorias (id);
+
+DROP INDEX idx_esportes_categoria;
+ALTER TABLE esportes DROP COLUMN categoria;
+
+-- findByCategoriaId passa a comparar inteiros
+CREATE INDEX idx_esportes_categoria_id ON esportes (categoria_id);
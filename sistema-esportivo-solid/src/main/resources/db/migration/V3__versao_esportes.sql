@@ -0,0 +1,3 @@
+-- Controle de concorrência otimista: cada UPDATE incrementa a versão e só é aplicado
+-- se a versão lida pelo cliente (ETag / If-Match) ainda for a atual
+ALTER TABLE esportes ADD COLUMN versao BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,11 @@
+-- Categorias passam a ser únicas pelo nome normalizado (sem acentos e sem diferenças de
+-- caixa), como os esportes: "Coletivo" e "coletivo" são a mesma categoria
+ALTER TABLE categorias ADD COLUMN nome_normalizado VARCHAR(50);
+
+-- Linhas anteriores a esta migração: sem função para remover acentos no SQL, usa-se só
+-- TRIM + LOWER; as novas são normalizadas pela aplicação (NormalizadorTexto)
+UPDATE categorias SET nome_normalizado = LOWER(TRIM(nome));
+
+ALTER TABLE categorias ALTER COLUMN nome_normalizado SET NOT NULL;
+ALTER TABLE categorias DROP CONSTRAINT uk_categorias_nome;
+ALTER TABLE categorias ADD CONSTRAINT uk_categorias_nome_normalizado UNIQUE (nome_normalizado);
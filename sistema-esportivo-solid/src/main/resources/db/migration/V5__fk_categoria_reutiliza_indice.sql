@@ -0,0 +1,6 @@
+-- A V2 criou fk_esportes_categoria antes de idx_esportes_categoria_id, e o H2 criou para a
+-- chave estrangeira um segundo índice (FK_..._INDEX_*) na mesma coluna. Recriada agora que
+-- o índice existe, a chave passa a reutilizá-lo, e categoria_id fica com um único índice
+ALTER TABLE esportes DROP CONSTRAINT fk_esportes_categoria;
+ALTER TABLE esportes ADD CONSTRAINT fk_esportes_categoria
+    FOREIGN KEY (categoria_id) REFERENCES categorias (id);
@@ -0,0 +1,66 @@
+package com.educacao.esportiva.application.service;
+
+import com.educacao.esportiva.domain.Categoria;
+import com.educacao.esportiva.domain.Esporte;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes do dicionário de categorias: chave sem acentos e criação simultânea
+ */
+@SpringBootTest
+class DicionarioCategoriasTest {
+    
+    private static final int REQUISICOES = 8;
+    
+    @Autowired
+    private DicionarioCategorias dicionario;
+    
+    @Autowired
+    private EsporteService esporteService;
+    
+    @Test
+    void nomesQueSoDiferemEmAcentosECaixaTemOMesmoCodigo() {
+        Categoria categoria = dicionario.codificar("Aeróbico");
+        
+        assertThat(dicionario.codificar(" AEROBICO ").getId()).isEqualTo(categoria.getId());
+        assertThat(dicionario.buscar("aeróbico")).get().extracting(Categoria::getId).isEqualTo(categoria.getId());
+    }
+    
+    @Test
+    void cadastrosSimultaneosComCategoriaNovaUsamUmUnicoCodigo() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(REQUISICOES);
+        CountDownLatch largada = new CountDownLatch(1);
+        try {
+            List<Future<Esporte>> criados = new ArrayList<>();
+            for (int i = 0; i < REQUISICOES; i++) {
+                String nome = "Esporte de inverno " + i;
+                String categoria = i % 2 == 0 ? "Neve" : "neve";
+                criados.add(executor.submit(() -> {
+                    largada.await();
+                    return esporteService.criarEsporte(nome, categoria);
+                }));
+            }
+            largada.countDown();
+            
+            List<Integer> codigos = new ArrayList<>();
+            for (Future<Esporte> criado : criados) {
+                codigos.add(criado.get().getCodigoCategoria());
+            }
+            assertThat(codigos).containsOnly(dicionario.buscar("Neve").orElseThrow().getId());
+            assertThat(dicionario.listar()).filteredOn(categoria -> categoria.getNome().equalsIgnoreCase("neve")).hasSize(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.educacao.esportiva.application.service;
+
+import com.educacao.esportiva.domain.Esporte;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes da atualização do EsporteService (condicional à versão e sem pré-condição),
+ * com H2 em memória e o schema do Flyway.
+ * Cada teste usa nomes próprios, pois o banco é compartilhado pelo contexto.
+ */
+@SpringBootTest
+class EsporteServiceTest {
+    
+    @Autowired
+    private EsporteService esporteService;
+    
+    @Test
+    void atualizacaoComVersaoAtualIncrementaAVersao() {
+        Esporte criado = esporteService.criarEsporte("Peteca", "Individual");
+        long versao = criado.getVersao();
+        
+        Esporte atualizado = esporteService.atualizarEsporteSeVersao(criado.getId(), "Peteca de praia", "Individual", versao);
+        
+        assertThat(atualizado.getVersao()).isEqualTo(versao + 1);
+        Esporte lido = esporteService.buscarPorId(criado.getId()).orElseThrow();
+        assertThat(lido.getNome()).isEqualTo("Peteca de praia");
+        assertThat(lido.getVersao()).isEqualTo(versao + 1);
+    }
+    
+    @Test
+    void atualizacaoComVersaoDesatualizadaNaoAlteraOEsporte() {
+        Esporte criado = esporteService.criarEsporte("Bocha", "Individual");
+        long versaoLida = criado.getVersao();
+        esporteService.atualizarEsporteSeVersao(criado.getId(), "Bocha adaptada", "Individual", versaoLida);
+        
+        assertThatThrownBy(() -> esporteService.atualizarEsporteSeVersao(criado.getId(), "Bocha paralímpica", "Individual", versaoLida))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        
+        Esporte lido = esporteService.buscarPorId(criado.getId()).orElseThrow();
+        assertThat(lido.getNome()).isEqualTo("Bocha adaptada");
+        assertThat(lido.getVersao()).isEqualTo(versaoLida + 1);
+        // O nome recusado não fica reservado no índice
+        assertThat(esporteService.criarEsporte("Bocha paralímpica", "Individual").getId()).isNotNull();
+    }
+    
+    @Test
+    void atualizacaoParaNomeDeOutroEsporteEhRecusada() {
+        esporteService.criarEsporte("Curling", "Coletivo");
+        Esporte outro = esporteService.criarEsporte("Críquete", "Coletivo");
+        
+        assertThatThrownBy(() -> esporteService.atualizarEsporteSeVersao(outro.getId(), "CURLING", "Coletivo", outro.getVersao()))
+                .isInstanceOf(DuplicateKeyException.class);
+        assertThatThrownBy(() -> esporteService.atualizarEsporte(outro.getId(), "curling", "Coletivo"))
+                .isInstanceOf(DuplicateKeyException.class);
+        assertThat(esporteService.buscarPorId(outro.getId()).orElseThrow().getNome()).isEqualTo("Críquete");
+    }
+    
+    @Test
+    void buscaPorNomeIgnoraAcentosECaixaEAcompanhaRenomeacaoEExclusao() {
+        Esporte criado = esporteService.criarEsporte("Hóquei no gelo", "Coletivo");
+        
+        assertThat(esporteService.buscarPorNome("HOQUEI NO GELO")).get()
+                .extracting(Esporte::getId).isEqualTo(criado.getId());
+        assertThat(esporteService.buscarPorNome("  hóquei no gelo ")).isPresent();
+        assertThatThrownBy(() -> esporteService.criarEsporte("Hoquei no Gelo", "Coletivo"))
+                .isInstanceOf(IllegalArgumentException.class);
+        
+        esporteService.atualizarEsporte(criado.getId(), "Hóquei no gelo feminino", "Coletivo");
+        assertThat(esporteService.buscarPorNome("hoquei no gelo")).isEmpty();
+        assertThat(esporteService.buscarPorNome("HÓQUEI NO GELO FEMININO")).get()
+                .extracting(Esporte::getNome).isEqualTo("Hóquei no gelo feminino");
+        
+        esporteService.excluirEsporte(criado.getId());
+        assertThat(esporteService.buscarPorNome("Hóquei no gelo feminino")).isEmpty();
+        assertThat(esporteService.criarEsporte("hoquei no gelo feminino", "Coletivo").getId()).isNotNull();
+    }
+    
+    @Test
+    void atualizacaoDeEsporteInexistenteNaoEhConflitoDeNome() {
+        esporteService.criarEsporte("Lacrosse", "Coletivo");
+        
+        assertThatThrownBy(() -> esporteService.atualizarEsporteSeVersao(987_654L, "Lacrosse", "Coletivo", 0))
+                .isNotInstanceOf(DuplicateKeyException.class)
+                .hasMessageContaining("não encontrado");
+    }
+}
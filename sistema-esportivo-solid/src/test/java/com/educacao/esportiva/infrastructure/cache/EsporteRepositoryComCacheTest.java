@@ -0,0 +1,72 @@
+package com.educacao.esportiva.infrastructure.cache;
+
+import com.educacao.esportiva.application.service.EsporteService;
+import com.educacao.esportiva.domain.Esporte;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes da invalidação do cache de Esporte ao final da transação (commit e rollback).
+ * Cada teste usa nomes próprios, pois o banco é compartilhado pelo contexto.
+ */
+@SpringBootTest
+class EsporteRepositoryComCacheTest {
+    
+    @Autowired
+    private EsporteRepositoryComCache repositorio;
+    
+    @Autowired
+    private EsporteService esporteService;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Test
+    void leituraDeOutraTransacaoAntesDoCommitNaoDeixaValorAntigoNoCache() {
+        Long id = esporteService.criarEsporte("Pólo", "Equestre").getId();
+        assertThat(repositorio.findById(id)).get().extracting(Esporte::getNome).isEqualTo("Pólo");
+        
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            esporteService.atualizarEsporte(id, "Pólo equestre", "Equestre");
+            // Outra thread (outra conexão) ainda lê o valor confirmado e o recoloca no cache
+            String lidoAntesDoCommit = CompletableFuture
+                    .supplyAsync(() -> repositorio.findById(id).orElseThrow().getNome())
+                    .join();
+            assertThat(lidoAntesDoCommit).isEqualTo("Pólo");
+        });
+        
+        assertThat(repositorio.findById(id)).get().extracting(Esporte::getNome).isEqualTo("Pólo equestre");
+    }
+    
+    @Test
+    void leituraDaPropriaTransacaoNaoDeixaNoCacheOValorDesfeitoPeloRollback() {
+        Long id = esporteService.criarEsporte("Adestramento", "Equestre").getId();
+        
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            esporteService.atualizarEsporte(id, "Adestramento clássico", "Equestre");
+            assertThat(repositorio.findById(id)).get().extracting(Esporte::getNome).isEqualTo("Adestramento clássico");
+            status.setRollbackOnly();
+        });
+        
+        assertThat(repositorio.findById(id)).get().extracting(Esporte::getNome).isEqualTo("Adestramento");
+        assertThat(esporteService.buscarPorNome("adestramento")).isPresent();
+    }
+    
+    @Test
+    void exclusaoEmLoteDescartaAsEntradasDosIdsExcluidos() {
+        Long id = esporteService.criarEsporte("Saltos", "Equestre").getId();
+        assertThat(repositorio.findById(id)).isPresent();
+        
+        esporteService.excluirEsportes(List.of(id));
+        
+        assertThat(repositorio.findById(id)).isEmpty();
+    }
+}
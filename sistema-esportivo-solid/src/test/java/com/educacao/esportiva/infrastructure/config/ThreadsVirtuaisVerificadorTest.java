@@ -0,0 +1,41 @@
+package com.educacao.esportiva.infrastructure.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.core.env.Environment;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes do perfil "virtual": a aplicação sobe em qualquer JVM suportada
+ * e o log indica se as requisições usam virtual threads.
+ */
+@SpringBootTest
+@ActiveProfiles("virtual")
+@ExtendWith(OutputCaptureExtension.class)
+class ThreadsVirtuaisVerificadorTest {
+    
+    @Autowired
+    private Environment environment;
+    
+    @Autowired
+    private ThreadsVirtuaisVerificador verificador;
+    
+    @Test
+    void perfilHabilitaVirtualThreadsEAvisaEmJavaAnteriorA21(CapturedOutput saida) {
+        assertThat(environment.getProperty("spring.threads.virtual.enabled", Boolean.class)).isTrue();
+        
+        verificador.verificar();
+        
+        if (Runtime.version().feature() < ThreadsVirtuaisVerificador.VERSAO_MINIMA_JAVA) {
+            assertThat(saida.getOut()).contains("WARN").contains("virtual threads exigem Java 21+");
+        } else {
+            assertThat(saida.getOut()).contains("Requisições atendidas em virtual threads");
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.educacao.esportiva.presentation.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes da importação e exportação NDJSON com lotes pequenos, para que a importação
+ * grave vários lotes e a exportação atravesse todos eles
+ */
+@SpringBootTest(properties = "esportes.importacao.tamanho-lote=3")
+@AutoConfigureMockMvc
+class CatalogoControllerTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Test
+    void importacaoEmVariosLotesEhExportadaPorCompleto() throws Exception {
+        StringBuilder corpo = new StringBuilder();
+        for (int i = 0; i < 8; i++) {
+            corpo.append("{\"nome\":\"Modalidade importada ").append(i).append("\",\"categoria\":\"Coletivo\"}\n");
+        }
+        
+        mockMvc.perform(post("/api/import")
+                        .contentType(EsporteController.MEDIA_TYPE_NDJSON)
+                        .content(corpo.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importados").value(8))
+                .andExpect(jsonPath("$.rejeitados").value(0));
+        
+        MvcResult exportacao = mockMvc.perform(get("/api/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        exportacao.getAsyncResult();
+        
+        // Sem o timeout configurado, o Tomcat encerraria a exportação após 30 s
+        assertThat(exportacao.getRequest().getAsyncContext().getTimeout())
+                .isEqualTo(Duration.ofMinutes(30).toMillis());
+        List<String> nomes = new ArrayList<>();
+        for (String linha : exportacao.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n")) {
+            nomes.add(objectMapper.readTree(linha).get("nome").asText());
+        }
+        assertThat(nomes).containsSubsequence("Modalidade importada 0", "Modalidade importada 3", "Modalidade importada 7");
+    }
+    
+    @Test
+    void linhasInvalidasSaoRejeitadasSemInterromperOsLotesSeguintes() throws Exception {
+        String corpo = """
+                {"nome":"Esgrima","categoria":"Individual"}
+                {"nome":"Tiro com arco",
+                
+                {"nome":"ESGRIMA","categoria":"Individual"}
+                {"nome":"Pentatlo","categoria":"Individual"}
+                {"nome":"Arco e flecha","categoria":"Individual"}
+                """;
+        
+        mockMvc.perform(post("/api/import")
+                        .contentType(EsporteController.MEDIA_TYPE_NDJSON)
+                        .content(corpo))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importados").value(3))
+                .andExpect(jsonPath("$.rejeitados").value(2))
+                .andExpect(jsonPath("$.erros[0]").value(startsWith("Linha 2: JSON inválido")))
+                .andExpect(jsonPath("$.erros[1]").value(startsWith("Linha 4:")));
+    }
+}
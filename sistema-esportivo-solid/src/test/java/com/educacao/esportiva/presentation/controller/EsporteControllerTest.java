@@ -0,0 +1,198 @@
+package com.educacao.esportiva.presentation.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes do ETag e da atualização condicional (If-Match / If-None-Match) de /api/esportes
+ * e do cadastro em lote (array JSON e NDJSON, com lotes pequenos)
+ * e da exclusão individual e em massa
+ */
+@SpringBootTest(properties = "esportes.importacao.tamanho-lote=3")
+@AutoConfigureMockMvc
+class EsporteControllerTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Test
+    void getDevolveETagEIfNoneMatchRespondeNaoModificado() throws Exception {
+        long id = criarEsporte("Badminton");
+        
+        mockMvc.perform(get("/api/esportes/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""));
+        mockMvc.perform(get("/api/esportes/{id}", id).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isNotModified());
+    }
+    
+    @Test
+    void putComIfMatchAtualGravaEPutComVersaoAntigaResponde412() throws Exception {
+        long id = criarEsporte("Squash");
+        
+        mockMvc.perform(put("/api/esportes/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(esporteJson("Squash duplas")))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.nome").value("Squash duplas"));
+        
+        mockMvc.perform(put("/api/esportes/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(esporteJson("Squash simples")))
+                .andExpect(status().isPreconditionFailed());
+        
+        mockMvc.perform(get("/api/esportes/{id}", id))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.nome").value("Squash duplas"));
+    }
+    
+    @Test
+    void putComETagFracoOuInvalido() throws Exception {
+        long id = criarEsporte("Polo aquático");
+        
+        mockMvc.perform(put("/api/esportes/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, "W/\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(esporteJson("Polo aquático feminino")))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+        mockMvc.perform(put("/api/esportes/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, "\"abc\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(esporteJson("Polo aquático masculino")))
+                .andExpect(status().isPreconditionFailed());
+    }
+    
+    @Test
+    void putCondicionalRespondeConflitoOuNaoEncontrado() throws Exception {
+        criarEsporte("Handebol de areia");
+        long id = criarEsporte("Beisebol");
+        
+        mockMvc.perform(put("/api/esportes/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(esporteJson("Handebol de areia")))
+                .andExpect(status().isConflict());
+        mockMvc.perform(put("/api/esportes/{id}", 987_654)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(esporteJson("Handebol de areia")))
+                .andExpect(status().isNotFound());
+    }
+    
+    @Test
+    void loteJsonDevolveResultadoPorItem() throws Exception {
+        criarEsporte("Sepaktakraw");
+        String lote = "[" + esporteJson("Kabaddi") + "," + esporteJson("SEPAKTAKRAW") + ","
+                + "{\"nome\":\"\",\"categoria\":\"Coletivo\"}," + esporteJson("kabaddi") + "]";
+        
+        mockMvc.perform(post("/api/esportes/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(lote))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].sucesso").value(true))
+                .andExpect(jsonPath("$[1].erro").value("Já existe um esporte com o nome: SEPAKTAKRAW"))
+                .andExpect(jsonPath("$[2].erro").value("Nome do esporte é obrigatório"))
+                .andExpect(jsonPath("$[3].erro").value("Já existe um esporte com o nome: kabaddi"));
+    }
+    
+    @Test
+    void loteNdjsonEmVariosLotesRejeitaLinhasSemInterromperAsDemais() throws Exception {
+        // Lotes de 3 linhas (tamanho-lote do teste): o nome repetido chega num lote posterior
+        String corpo = esporteJson("Floorball") + "\n"
+                + "{\"nome\":\"Netball\"\n"
+                + "\n"
+                + esporteJson("Korfball") + "\n"
+                + esporteJson("FLOORBALL") + "\n"
+                + "{\"nome\":\"Ringette\"}\n"
+                + esporteJson("Bandy") + "\n";
+        
+        String resposta = mockMvc.perform(post("/api/esportes/batch")
+                        .contentType(EsporteController.MEDIA_TYPE_NDJSON)
+                        .content(corpo))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(6))
+                .andExpect(jsonPath("$[1].erro").value(startsWith("JSON inválido")))
+                .andExpect(jsonPath("$[3].erro").value("Já existe um esporte com o nome: FLOORBALL"))
+                .andExpect(jsonPath("$[4].erro").value("Categoria do esporte é obrigatória"))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        
+        JsonNode resultados = objectMapper.readTree(resposta);
+        for (int i = 0; i < resultados.size(); i++) {
+            assertThat(resultados.get(i).get("indice").asInt()).isEqualTo(i);
+            assertThat(resultados.get(i).get("sucesso").asBoolean()).isEqualTo(i == 0 || i == 2 || i == 5);
+        }
+        mockMvc.perform(get("/api/esportes/{id}", resultados.get(5).get("id").asLong()))
+                .andExpect(jsonPath("$.nome").value("Bandy"));
+    }
+    
+    @Test
+    void exclusaoIndividualRespondeNaoEncontradoParaIdInexistente() throws Exception {
+        long id = criarEsporte("Biribol");
+        
+        mockMvc.perform(delete("/api/esportes/{id}", id))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(delete("/api/esportes/{id}", id))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/esportes/{id}", id))
+                .andExpect(status().isNotFound());
+        // O nome é liberado junto com o esporte
+        criarEsporte("BIRIBOL");
+    }
+    
+    @Test
+    void exclusaoEmMassaContaSoOsIdsExistentes() throws Exception {
+        long primeiro = criarEsporte("Corfebol");
+        long segundo = criarEsporte("Pickleball");
+        String ids = primeiro + "," + segundo + ",987654," + primeiro;
+        
+        mockMvc.perform(delete("/api/esportes").param("ids", ids))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.excluidos").value(2));
+        mockMvc.perform(delete("/api/esportes").param("ids", ids))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.excluidos").value(0));
+        mockMvc.perform(get("/api/esportes/{id}", segundo))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(delete("/api/esportes").param("ids", ""))
+                .andExpect(status().isBadRequest());
+    }
+    
+    private long criarEsporte(String nome) throws Exception {
+        String resposta = mockMvc.perform(post("/api/esportes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(esporteJson(nome)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        return objectMapper.readTree(resposta).get("id").asLong();
+    }
+    
+    private static String esporteJson(String nome) {
+        return "{\"nome\":\"" + nome + "\",\"categoria\":\"Coletivo\"}";
+    }
+}
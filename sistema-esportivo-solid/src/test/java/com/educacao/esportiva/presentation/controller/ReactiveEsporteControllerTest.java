@@ -0,0 +1,92 @@
+package com.educacao.esportiva.presentation.controller;
+
+import com.educacao.esportiva.domain.Esporte;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+/**
+ * Testes do ETag e da atualização condicional no perfil "reativo" (WebFlux + R2DBC)
+ */
+@SpringBootTest
+@ActiveProfiles("reativo")
+@AutoConfigureWebTestClient
+class ReactiveEsporteControllerTest {
+    
+    @Autowired
+    private WebTestClient webTestClient;
+    
+    @Test
+    void putComIfMatchAtualGravaEPutComVersaoAntigaResponde412() {
+        long id = criarEsporte("Hóquei sobre patins");
+        
+        webTestClient.get().uri("/api/esportes/{id}", id).exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"0\"");
+        atualizar(id, "\"0\"", "Hóquei em linha")
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"1\"")
+                .expectBody().jsonPath("$.nome").isEqualTo("Hóquei em linha");
+        atualizar(id, "\"0\"", "Hóquei sobre grama")
+                .expectStatus().isEqualTo(412);
+        atualizar(id, "\"abc\"", "Hóquei sobre grama")
+                .expectStatus().isEqualTo(412);
+        
+        webTestClient.get().uri("/api/esportes/{id}", id).exchange()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"1\"")
+                .expectBody().jsonPath("$.nome").isEqualTo("Hóquei em linha");
+    }
+    
+    @Test
+    void putSemIfMatchIncrementaAVersao() {
+        long id = criarEsporte("Tchoukball");
+        
+        atualizar(id, null, "Tchoukball de praia")
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"1\"");
+        atualizar(id, "*", "Tchoukball indoor")
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"2\"");
+    }
+    
+    @Test
+    void putComNomeDeOutroEsporteRespondeConflitoEInexistenteNaoEncontrado() {
+        criarEsporte("Futsal reativo");
+        long id = criarEsporte("Showbol");
+        
+        atualizar(id, "\"0\"", "FUTSAL REATIVO").expectStatus().isEqualTo(409);
+        atualizar(id, null, "futsal reativo").expectStatus().isEqualTo(409);
+        atualizar(987_654L, "\"0\"", "Showbol").expectStatus().isNotFound();
+        atualizar(987_654L, null, "Showbol").expectStatus().isNotFound();
+    }
+    
+    private long criarEsporte(String nome) {
+        Esporte criado = webTestClient.post().uri("/api/esportes")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(esporteJson(nome))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(Esporte.class)
+                .returnResult()
+                .getResponseBody();
+        return criado.getId();
+    }
+    
+    private WebTestClient.ResponseSpec atualizar(long id, String ifMatch, String nome) {
+        WebTestClient.RequestBodySpec requisicao = webTestClient.put().uri("/api/esportes/{id}", id)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (ifMatch != null) {
+            requisicao.header(HttpHeaders.IF_MATCH, ifMatch);
+        }
+        return requisicao.bodyValue(esporteJson(nome)).exchange();
+    }
+    
+    private static String esporteJson(String nome) {
+        return "{\"nome\":\"" + nome + "\",\"categoria\":\"Coletivo\"}";
+    }
+}
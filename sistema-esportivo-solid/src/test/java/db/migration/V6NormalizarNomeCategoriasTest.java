@@ -0,0 +1,44 @@
+package db.migration;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes da V6 sobre um banco próprio, com categorias gravadas antes dela pela V4
+ */
+class V6NormalizarNomeCategoriasTest {
+    
+    private final DataSource banco = new DriverManagerDataSource("jdbc:h2:mem:migracao-v6;DB_CLOSE_DELAY=-1", "sa", "");
+    private final JdbcTemplate jdbc = new JdbcTemplate(banco);
+    
+    @Test
+    void unificaCategoriasQueSoDiferemPorAcentosERecalculaAsChaves() {
+        migrarAte("5");
+        jdbc.update("INSERT INTO categorias (id, nome, nome_normalizado) VALUES (1, 'Aquático', 'aquático'), "
+                + "(2, 'Coletivo', 'coletivo'), (3, ' Aquatico', 'aquatico'), (4, 'AQUÁTICO ', 'aquático ')");
+        jdbc.update("INSERT INTO esportes (id, nome, nome_normalizado, categoria_id) VALUES "
+                + "(1, 'Natação', 'natacao', 1), (2, 'Polo aquático', 'polo aquatico', 3), "
+                + "(3, 'Saltos ornamentais', 'saltos ornamentais', 4), (4, 'Futebol', 'futebol', 2)");
+        
+        migrarAte("6");
+        
+        List<Map<String, Object>> categorias = jdbc.queryForList(
+                "SELECT id, nome, nome_normalizado FROM categorias ORDER BY id");
+        assertThat(categorias).extracting(linha -> linha.get("ID")).containsExactly(1, 2);
+        assertThat(categorias).extracting(linha -> linha.get("NOME_NORMALIZADO")).containsExactly("aquatico", "coletivo");
+        assertThat(jdbc.queryForList("SELECT categoria_id FROM esportes ORDER BY id", Integer.class))
+                .containsExactly(1, 1, 1, 2);
+    }
+    
+    private void migrarAte(String versao) {
+        Flyway.configure().dataSource(banco).target(versao).load().migrate();
+    }
+}